@@ -0,0 +1,50 @@
+package roomescape.infra;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import roomescape.application.TokenPayload;
+import roomescape.domain.member.Role;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(8)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET_KEY = "abcdefghijklmnopqrstuvwxyz0123456789";
+    private static final long EXPIRATION_TIME = 3_600_000;
+
+    // 로그인한 회원 수. 캐시 크기(10,000)를 넘으면 검증된 토큰 캐시가 밀려나는 경우를 볼 수 있다.
+    @Param({"100", "50000"})
+    private int activeMemberCount;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private List<String> tokens;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(SECRET_KEY, EXPIRATION_TIME, new InMemoryTokenRevocationList(EXPIRATION_TIME));
+        tokens = LongStream.rangeClosed(1, activeMemberCount)
+                .mapToObj(id -> jwtTokenProvider.createToken(
+                        new TokenPayload(id, "member" + id + "@gmail.com", "회원" + id, Role.USER)))
+                .toList();
+    }
+
+    @Benchmark
+    public Long getMemberId() {
+        String token = tokens.get(ThreadLocalRandom.current().nextInt(activeMemberCount));
+
+        return jwtTokenProvider.getMemberId(token);
+    }
+}
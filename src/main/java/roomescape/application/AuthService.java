@@ -1,46 +1,82 @@
 package roomescape.application;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import roomescape.application.dto.request.LoginRequest;
 import roomescape.application.dto.response.MemberResponse;
 import roomescape.domain.member.Member;
 import roomescape.domain.member.MemberRepository;
 import roomescape.exception.BadRequestException;
+import roomescape.exception.UnauthorizedException;
 
 @Service
 @Transactional(readOnly = true)
 public class AuthService {
 
     private final MemberRepository memberRepository;
+    private final MemberService memberService;
     private final PasswordEncoder passwordEncoder;
     private final TokenProvider tokenProvider;
+    private final LoginAttemptLimiter loginAttemptLimiter;
 
     public AuthService(
             MemberRepository memberRepository,
+            MemberService memberService,
             PasswordEncoder passwordEncoder,
-            TokenProvider tokenProvider
+            TokenProvider tokenProvider,
+            LoginAttemptLimiter loginAttemptLimiter
     ) {
         this.memberRepository = memberRepository;
+        this.memberService = memberService;
         this.passwordEncoder = passwordEncoder;
         this.tokenProvider = tokenProvider;
+        this.loginAttemptLimiter = loginAttemptLimiter;
     }
 
-    public String createToken(Long memberId) {
-        return tokenProvider.createToken(memberId.toString());
+    public String createToken(MemberResponse memberResponse) {
+        return tokenProvider.createToken(TokenPayload.from(memberResponse));
     }
 
+    // 토큰 해석은 DB를 쓰지 않으므로 트랜잭션을 열어 커넥션을 빌리지 않는다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Long getMemberIdByToken(String token) {
         return tokenProvider.getMemberId(token);
     }
 
-    public MemberResponse validatePassword(LoginRequest loginRequest) {
+    // 회원 역할은 짧은 TTL 캐시로만 확인하므로, 역할이 바뀐 회원의 토큰은 캐시가 만료되면 거부된다.
+    // 캐시 적중 시에는 커넥션을 쓰지 않도록 트랜잭션 밖에서 실행하고, 캐시 미스만 리포지토리 트랜잭션으로 조회한다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TokenPayload getPayloadByToken(String token) {
+        TokenPayload payload = tokenProvider.getPayload(token);
+        boolean roleUnchanged = memberService.findRoleById(payload.memberId())
+                .filter(role -> role == payload.role())
+                .isPresent();
+
+        if (!roleUnchanged) {
+            throw new UnauthorizedException("회원 정보가 변경되었습니다. 다시 로그인해주세요.");
+        }
+
+        return payload;
+    }
+
+    // 비밀번호 검증은 해시 실행기에서 대기할 수 있으므로 트랜잭션 밖에서 수행해 DB 커넥션을 붙잡지 않는다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public MemberResponse validatePassword(LoginRequest loginRequest, String clientIp) {
+        // 회원 조회와 해시 비교보다 먼저 시도 횟수를 확인해 대입 공격이 DB와 해시 CPU를 쓰지 못하게 한다.
+        loginAttemptLimiter.acquire(loginRequest.email(), clientIp);
+
         Member member = memberRepository.getByEmail(loginRequest.email());
 
         if (!passwordEncoder.matches(loginRequest.password(), member.getPassword())) {
             throw new BadRequestException("비밀번호가 일치하지 않습니다.");
         }
 
+        // 비용 인자가 바뀐 뒤 처음 로그인하면 평문 비밀번호를 알고 있는 지금 새 비용으로 다시 암호화한다.
+        if (passwordEncoder.needsRehash(member.getPassword())) {
+            memberService.changePasswordHash(member.getId(), passwordEncoder.encode(loginRequest.password()));
+        }
+
         return MemberResponse.from(member);
     }
 }
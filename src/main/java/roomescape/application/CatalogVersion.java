@@ -0,0 +1,90 @@
+package roomescape.application;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import roomescape.domain.reservation.event.ReservationCreatedEvent;
+import roomescape.domain.reservation.event.ReservationDeletedEvent;
+
+@Component
+public class CatalogVersion {
+
+    // 재시작 후 버전이 0부터 다시 시작해도 이전 실행의 ETag와 겹치지 않도록 실행마다 다른 접두사를 붙인다.
+    private final String instanceId = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+    private final AtomicLong themes = new AtomicLong();
+    private final AtomicLong reservationTimes = new AtomicLong();
+    private final AtomicLong pastPopularity = new AtomicLong();
+    private final AtomicLong upcomingPopularity = new AtomicLong();
+    private final Clock clock;
+
+    public CatalogVersion(Clock clock) {
+        this.clock = clock;
+    }
+
+    public String themesTag() {
+        return String.format("%s-t%d", instanceId, themes.get());
+    }
+
+    public String reservationTimesTag() {
+        return String.format("%s-r%d", instanceId, reservationTimes.get());
+    }
+
+    // 기본 조회 기간은 날짜가 바뀌면 달라지므로 실제 조회 조건까지 태그에 포함한다.
+    // 오늘 이후 예약은 어제까지의 기간에 영향을 주지 않으므로, 기간이 오늘에 닿을 때만 그 버전을 더한다.
+    public String popularThemesTag(LocalDate startDate, LocalDate endDate, int limit) {
+        String tag = String.format("%s-t%d-p%d-%s-%s-%d",
+                instanceId, themes.get(), pastPopularity.get(), startDate, endDate, limit);
+
+        if (endDate.isBefore(LocalDate.now(clock))) {
+            return tag;
+        }
+        return String.format("%s-u%d", tag, upcomingPopularity.get());
+    }
+
+    public void increaseThemes() {
+        increaseAfterCompletion(themes);
+    }
+
+    public void increaseReservationTimes() {
+        increaseAfterCompletion(reservationTimes);
+    }
+
+    @TransactionalEventListener
+    public void onReservationCreated(ReservationCreatedEvent event) {
+        increasePopularity(event.date());
+    }
+
+    @TransactionalEventListener
+    public void onReservationDeleted(ReservationDeletedEvent event) {
+        increasePopularity(event.date());
+    }
+
+    private void increasePopularity(LocalDate date) {
+        if (date.isBefore(LocalDate.now(clock))) {
+            pastPopularity.incrementAndGet();
+            return;
+        }
+        upcomingPopularity.incrementAndGet();
+    }
+
+    // 캐시 무효화는 커밋 직후에 일어나므로, 그보다 먼저 버전이 오르면 새 ETag에 이전 캐시 내용이 담길 수 있다.
+    private void increaseAfterCompletion(AtomicLong version) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            version.incrementAndGet();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    version.incrementAndGet();
+                }
+            }
+        });
+    }
+}
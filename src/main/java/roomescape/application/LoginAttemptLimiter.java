@@ -0,0 +1,6 @@
+package roomescape.application;
+
+public interface LoginAttemptLimiter {
+
+    void acquire(String email, String clientIp);
+}
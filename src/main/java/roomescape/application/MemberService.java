@@ -1,8 +1,16 @@
 package roomescape.application;
 
 import java.util.List;
+import java.util.Optional;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import roomescape.application.dto.request.MemberRoleRequest;
 import roomescape.application.dto.request.SignupRequest;
 import roomescape.application.dto.response.MemberResponse;
 import roomescape.domain.member.Member;
@@ -14,16 +22,29 @@ import roomescape.exception.BadRequestException;
 @Transactional(readOnly = true)
 public class MemberService {
 
+    public static final String MEMBER_ROLE = "memberRole";
+
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
+    private final TokenRevocationList tokenRevocationList;
 
-    public MemberService(MemberRepository memberRepository, PasswordEncoder passwordEncoder) {
+    public MemberService(
+            MemberRepository memberRepository,
+            PasswordEncoder passwordEncoder,
+            TokenRevocationList tokenRevocationList
+    ) {
         this.memberRepository = memberRepository;
         this.passwordEncoder = passwordEncoder;
+        this.tokenRevocationList = tokenRevocationList;
     }
 
-    @Transactional
+    // 해시 계산 동안 DB 커넥션을 붙잡지 않도록 트랜잭션 밖에서 암호화하고, 중복 가입은 유니크 제약으로 막는다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public MemberResponse createMember(SignupRequest request) {
+        if (memberRepository.existsByEmail(request.email())) {
+            throw duplicatedEmail(request.email());
+        }
+
         Member member = new Member(
                 request.email(),
                 passwordEncoder.encode(request.password()),
@@ -31,13 +52,12 @@ public class MemberService {
                 Role.USER
         );
 
-        if (memberRepository.existsByEmail(member.getEmail())) {
-            throw new BadRequestException(String.format("해당 이메일의 회원이 이미 존재합니다. (email: %s)", member.getEmail()));
+        try {
+            Member savedMember = memberRepository.save(member);
+            return MemberResponse.from(savedMember);
+        } catch (DataIntegrityViolationException e) {
+            throw duplicatedEmail(member.getEmail());
         }
-
-        Member savedMember = memberRepository.save(member);
-
-        return MemberResponse.from(savedMember);
     }
 
     public List<MemberResponse> getAllMembers() {
@@ -53,4 +73,41 @@ public class MemberService {
 
         return MemberResponse.from(member);
     }
+
+    @Transactional
+    @CacheEvict(cacheNames = MEMBER_ROLE, key = "#id")
+    public MemberResponse changeRole(long id, MemberRoleRequest request) {
+        Member member = memberRepository.getById(id);
+        member.changeRole(request.role());
+        revokeTokensAfterCommit(id);
+
+        return MemberResponse.from(member);
+    }
+
+    @Transactional
+    public void changePasswordHash(long id, String encodedPassword) {
+        Member member = memberRepository.getById(id);
+        member.changePassword(encodedPassword);
+    }
+
+    @Cacheable(cacheNames = MEMBER_ROLE)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Optional<Role> findRoleById(long id) {
+        return memberRepository.findById(id)
+                .map(Member::getRole);
+    }
+
+    // 커밋 전에 폐기하면 그 사이 다시 로그인한 회원이 이전 역할로 발급받은 토큰이 폐기를 통과하므로 커밋 뒤에 폐기한다.
+    private void revokeTokensAfterCommit(long id) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                tokenRevocationList.revoke(id);
+            }
+        });
+    }
+
+    private BadRequestException duplicatedEmail(String email) {
+        return new BadRequestException(String.format("해당 이메일의 회원이 이미 존재합니다. (email: %s)", email));
+    }
 }
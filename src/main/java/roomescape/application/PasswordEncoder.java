@@ -6,4 +6,6 @@ public interface PasswordEncoder {
     String encode(String rawPassword);
 
     boolean matches(String rawPassword, String encodedPassword);
+
+    boolean needsRehash(String encodedPassword);
 }
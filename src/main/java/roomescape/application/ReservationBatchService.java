@@ -0,0 +1,152 @@
+package roomescape.application;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import roomescape.application.dto.request.ReservationRequest;
+import roomescape.application.dto.response.ReservationBatchFailureResponse;
+import roomescape.application.dto.response.ReservationBatchResponse;
+import roomescape.application.dto.response.ReservationResponse;
+import roomescape.domain.exception.DomainNotFoundException;
+import roomescape.domain.exception.DomainValidationException;
+import roomescape.domain.member.Member;
+import roomescape.domain.member.MemberRepository;
+import roomescape.domain.reservation.Reservation;
+import roomescape.domain.reservation.ReservationRepository;
+import roomescape.domain.reservation.WaitingRepository;
+import roomescape.domain.reservation.detail.ReservationDetail;
+import roomescape.domain.reservation.detail.ReservationTime;
+import roomescape.domain.reservation.detail.Theme;
+import roomescape.domain.reservation.dto.ReservationSlotDto;
+import roomescape.exception.BadRequestException;
+
+@Service
+@Transactional(readOnly = true)
+public class ReservationBatchService {
+
+    private final ReservationRepository reservationRepository;
+    private final ReservationCatalog reservationCatalog;
+    private final MemberRepository memberRepository;
+    private final WaitingRepository waitingRepository;
+
+    public ReservationBatchService(
+            ReservationRepository reservationRepository,
+            ReservationCatalog reservationCatalog,
+            MemberRepository memberRepository,
+            WaitingRepository waitingRepository
+    ) {
+        this.reservationRepository = reservationRepository;
+        this.reservationCatalog = reservationCatalog;
+        this.memberRepository = memberRepository;
+        this.waitingRepository = waitingRepository;
+    }
+
+    @Transactional
+    public ReservationBatchResponse addReservations(List<ReservationRequest> requests) {
+        Map<Long, Member> members = toMapById(
+                memberRepository.findAllById(collect(requests, ReservationRequest::memberId)), Member::getId);
+        Map<Long, ReservationTime> times = toMapById(reservationCatalog.getReservationTimes(), ReservationTime::getId);
+        Map<Long, Theme> themes = toMapById(reservationCatalog.getThemes(), Theme::getId);
+
+        Set<ReservationSlotDto> reservedSlots = new HashSet<>(reservationRepository.findAllSlotsIn(
+                collect(requests, ReservationRequest::date),
+                collect(requests, ReservationRequest::timeId),
+                collect(requests, ReservationRequest::themeId)
+        ));
+        Set<ReservationSlotDto> waitingSlots = new HashSet<>(waitingRepository.findAllSlotsIn(
+                collect(requests, ReservationRequest::date),
+                collect(requests, ReservationRequest::timeId),
+                collect(requests, ReservationRequest::themeId)
+        ));
+
+        List<Reservation> reservations = new ArrayList<>();
+        List<ReservationBatchFailureResponse> failures = new ArrayList<>();
+
+        for (int index = 0; index < requests.size(); index++) {
+            ReservationRequest request = requests.get(index);
+            ReservationSlotDto slot = new ReservationSlotDto(request.date(), request.timeId(), request.themeId());
+
+            try {
+                validateSlotAvailable(slot, reservedSlots, waitingSlots);
+                reservations.add(createReservation(request, members, times, themes));
+                reservedSlots.add(slot);
+            } catch (DomainNotFoundException | DomainValidationException | BadRequestException e) {
+                failures.add(new ReservationBatchFailureResponse(index, e.getMessage()));
+            }
+        }
+
+        List<ReservationResponse> reservationResponses = saveReservations(reservations).stream()
+                .map(ReservationResponse::from)
+                .toList();
+
+        return new ReservationBatchResponse(reservationResponses, failures);
+    }
+
+    private void validateSlotAvailable(
+            ReservationSlotDto slot,
+            Set<ReservationSlotDto> reservedSlots,
+            Set<ReservationSlotDto> waitingSlots
+    ) {
+        if (reservedSlots.contains(slot)) {
+            throw new BadRequestException("이미 예약이 존재합니다.");
+        }
+
+        if (waitingSlots.contains(slot)) {
+            throw new BadRequestException("예약 대기가 존재하여 예약을 할 수 없습니다.");
+        }
+    }
+
+    private Reservation createReservation(
+            ReservationRequest request,
+            Map<Long, Member> members,
+            Map<Long, ReservationTime> times,
+            Map<Long, Theme> themes
+    ) {
+        Member member = getOrThrow(members, request.memberId(), "해당 id의 회원이 존재하지 않습니다. (id: %d)");
+        ReservationTime time = getOrThrow(times, request.timeId(), "해당 id의 예약 시간이 존재하지 않습니다. (id: %d)");
+        Theme theme = getOrThrow(themes, request.themeId(), "해당 id의 테마가 존재하지 않습니다. (id: %d)");
+
+        ReservationDetail detail = new ReservationDetail(request.date(), time, theme);
+
+        return Reservation.create(request.currentDateTime(), detail, member);
+    }
+
+    private List<Reservation> saveReservations(List<Reservation> reservations) {
+        try {
+            return reservationRepository.saveAllAndFlush(reservations);
+        } catch (DataIntegrityViolationException e) {
+            if (ReservationConstraints.isDetailDuplicated(e)) {
+                throw new BadRequestException("이미 예약이 존재합니다.");
+            }
+            throw e;
+        }
+    }
+
+    private <T> Set<T> collect(List<ReservationRequest> requests, Function<ReservationRequest, T> mapper) {
+        return requests.stream()
+                .map(mapper)
+                .collect(Collectors.toSet());
+    }
+
+    private <T> Map<Long, T> toMapById(List<T> entities, Function<T, Long> idMapper) {
+        return entities.stream()
+                .collect(Collectors.toMap(idMapper, Function.identity()));
+    }
+
+    private <T> T getOrThrow(Map<Long, T> entities, Long id, String messageFormat) {
+        T entity = entities.get(id);
+
+        if (entity == null) {
+            throw new DomainNotFoundException(String.format(messageFormat, id));
+        }
+
+        return entity;
+    }
+}
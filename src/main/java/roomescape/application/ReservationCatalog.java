@@ -0,0 +1,65 @@
+package roomescape.application;
+
+import java.util.List;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import roomescape.domain.reservation.detail.ReservationTime;
+import roomescape.domain.reservation.detail.ReservationTimeRepository;
+import roomescape.domain.reservation.detail.Theme;
+import roomescape.domain.reservation.detail.ThemeRepository;
+
+@Service
+@Transactional(readOnly = true)
+public class ReservationCatalog {
+
+    public static final String THEMES = "themes";
+    public static final String THEME = "theme";
+    public static final String RESERVATION_TIMES = "reservationTimes";
+    public static final String RESERVATION_TIME = "reservationTime";
+
+    private final ThemeRepository themeRepository;
+    private final ReservationTimeRepository reservationTimeRepository;
+    private final CatalogVersion catalogVersion;
+
+    public ReservationCatalog(
+            ThemeRepository themeRepository,
+            ReservationTimeRepository reservationTimeRepository,
+            CatalogVersion catalogVersion
+    ) {
+        this.themeRepository = themeRepository;
+        this.reservationTimeRepository = reservationTimeRepository;
+        this.catalogVersion = catalogVersion;
+    }
+
+    @Cacheable(cacheNames = THEMES, key = "'all'")
+    public List<Theme> getThemes() {
+        return List.copyOf(themeRepository.findAll());
+    }
+
+    @Cacheable(cacheNames = THEME)
+    public Theme getTheme(Long id) {
+        return themeRepository.getById(id);
+    }
+
+    @Cacheable(cacheNames = RESERVATION_TIMES, key = "'all'")
+    public List<ReservationTime> getReservationTimes() {
+        return List.copyOf(reservationTimeRepository.findAll());
+    }
+
+    @Cacheable(cacheNames = RESERVATION_TIME)
+    public ReservationTime getReservationTime(Long id) {
+        return reservationTimeRepository.getById(id);
+    }
+
+    @CacheEvict(cacheNames = {THEMES, THEME}, allEntries = true)
+    public void evictThemes() {
+        catalogVersion.increaseThemes();
+    }
+
+    @CacheEvict(cacheNames = {RESERVATION_TIMES, RESERVATION_TIME}, allEntries = true)
+    public void evictReservationTimes() {
+        catalogVersion.increaseReservationTimes();
+    }
+}
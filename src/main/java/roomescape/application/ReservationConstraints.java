@@ -0,0 +1,30 @@
+package roomescape.application;
+
+import java.util.Locale;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import roomescape.domain.reservation.Reservation;
+
+final class ReservationConstraints {
+
+    private ReservationConstraints() {
+    }
+
+    // 외래 키나 NOT NULL 위반까지 중복 예약으로 보고하지 않도록 예약 슬롯 유니크 제약 위반만 골라낸다.
+    // H2 는 제약 이름 뒤에 인덱스 접미사를 붙여 보고하므로 이름이 포함되는지로 비교한다.
+    static boolean isDetailDuplicated(DataIntegrityViolationException exception) {
+        Throwable cause = exception;
+
+        while (cause != null) {
+            if (cause instanceof ConstraintViolationException violation) {
+                String constraintName = violation.getConstraintName();
+
+                return constraintName != null && constraintName.toLowerCase(Locale.ROOT)
+                        .contains(Reservation.DETAIL_UNIQUE_CONSTRAINT);
+            }
+            cause = cause.getCause();
+        }
+
+        return false;
+    }
+}
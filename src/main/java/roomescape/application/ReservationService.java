@@ -3,9 +3,11 @@ package roomescape.application;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import roomescape.application.dto.request.ReservationRequest;
+import roomescape.application.dto.request.ReservationSearchRequest;
 import roomescape.application.dto.response.ReservationResponse;
 import roomescape.domain.member.Member;
 import roomescape.domain.member.MemberRepository;
@@ -14,9 +16,7 @@ import roomescape.domain.reservation.ReservationRepository;
 import roomescape.domain.reservation.WaitingRepository;
 import roomescape.domain.reservation.detail.ReservationDetail;
 import roomescape.domain.reservation.detail.ReservationTime;
-import roomescape.domain.reservation.detail.ReservationTimeRepository;
 import roomescape.domain.reservation.detail.Theme;
-import roomescape.domain.reservation.detail.ThemeRepository;
 import roomescape.exception.BadRequestException;
 
 @Service
@@ -24,27 +24,27 @@ import roomescape.exception.BadRequestException;
 public class ReservationService {
 
     private final ReservationRepository reservationRepository;
-    private final ReservationTimeRepository reservationTimeRepository;
-    private final ThemeRepository themeRepository;
+    private final ReservationCatalog reservationCatalog;
     private final MemberRepository memberRepository;
     private final WaitingRepository waitingRepository;
+    private final ReservationSlotLock reservationSlotLock;
 
     public ReservationService(
             ReservationRepository reservationRepository,
-            ReservationTimeRepository reservationTimeRepository,
-            ThemeRepository themeRepository,
+            ReservationCatalog reservationCatalog,
             MemberRepository memberRepository,
-            WaitingRepository waitingRepository
+            WaitingRepository waitingRepository,
+            ReservationSlotLock reservationSlotLock
     ) {
         this.reservationRepository = reservationRepository;
-        this.reservationTimeRepository = reservationTimeRepository;
-        this.themeRepository = themeRepository;
+        this.reservationCatalog = reservationCatalog;
         this.memberRepository = memberRepository;
         this.waitingRepository = waitingRepository;
+        this.reservationSlotLock = reservationSlotLock;
     }
 
     @Transactional
-    public synchronized ReservationResponse addReservation(ReservationRequest request) {
+    public ReservationResponse addReservation(ReservationRequest request) {
         Reservation reservation = createReservation(
                 request.currentDateTime(),
                 request.date(),
@@ -53,21 +53,16 @@ public class ReservationService {
                 request.memberId()
         );
 
-        validateReservationExists(reservation);
-        validateWaitingExists(reservation);
+        reservationSlotLock.lockForTransaction(reservation.getDetail());
 
-        Reservation savedReservation = reservationRepository.save(reservation);
+        Reservation savedReservation = saveReservation(reservation);
+        validateWaitingExists(savedReservation);
 
         return ReservationResponse.from(savedReservation);
     }
 
-    public List<ReservationResponse> getReservationsByConditions(
-            Long memberId,
-            Long themeId,
-            LocalDate dateFrom,
-            LocalDate dateTo
-    ) {
-        List<Reservation> reservations = reservationRepository.findAllByConditions(memberId, themeId, dateFrom, dateTo);
+    public List<ReservationResponse> getReservationsByConditions(ReservationSearchRequest request) {
+        List<Reservation> reservations = reservationRepository.search(request.toCondition());
 
         return reservations.stream()
                 .map(ReservationResponse::from)
@@ -89,19 +84,22 @@ public class ReservationService {
             Long memberId
     ) {
         Member member = memberRepository.getById(memberId);
-        ReservationTime reservationTime = reservationTimeRepository.getById(timeId);
-        Theme theme = themeRepository.getById(themeId);
+        ReservationTime reservationTime = reservationCatalog.getReservationTime(timeId);
+        Theme theme = reservationCatalog.getTheme(themeId);
 
         ReservationDetail detail = new ReservationDetail(date, reservationTime, theme);
 
         return Reservation.create(currentDateTime, detail, member);
     }
 
-    private void validateReservationExists(Reservation reservation) {
-        boolean reservationExists = reservationRepository.existsByDetail(reservation.getDetail());
-
-        if (reservationExists) {
-            throw new BadRequestException("이미 예약이 존재합니다.");
+    private Reservation saveReservation(Reservation reservation) {
+        try {
+            return reservationRepository.saveAndFlush(reservation);
+        } catch (DataIntegrityViolationException e) {
+            if (ReservationConstraints.isDetailDuplicated(e)) {
+                throw new BadRequestException("이미 예약이 존재합니다.");
+            }
+            throw e;
         }
     }
 
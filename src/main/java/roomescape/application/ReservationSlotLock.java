@@ -0,0 +1,8 @@
+package roomescape.application;
+
+import roomescape.domain.reservation.detail.ReservationDetail;
+
+public interface ReservationSlotLock {
+
+    void lockForTransaction(ReservationDetail detail);
+}
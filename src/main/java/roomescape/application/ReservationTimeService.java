@@ -2,15 +2,20 @@ package roomescape.application;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import roomescape.application.dto.request.ReservationTimeRequest;
 import roomescape.application.dto.response.AvailableReservationTimeResponse;
 import roomescape.application.dto.response.ReservationTimeResponse;
+import roomescape.application.dto.response.ThemeAvailabilityResponse;
 import roomescape.domain.exception.DomainNotFoundException;
 import roomescape.domain.reservation.ReservationRepository;
 import roomescape.domain.reservation.detail.ReservationTime;
 import roomescape.domain.reservation.detail.ReservationTimeRepository;
+import roomescape.domain.reservation.dto.ReservationSlotDto;
 import roomescape.domain.reservation.dto.AvailableReservationTimeDto;
 import roomescape.exception.BadRequestException;
 
@@ -20,13 +25,19 @@ public class ReservationTimeService {
 
     private final ReservationRepository reservationRepository;
     private final ReservationTimeRepository reservationTimeRepository;
+    private final ReservationCatalog reservationCatalog;
+    private final SlotOccupancyIndex slotOccupancyIndex;
 
     public ReservationTimeService(
             ReservationRepository reservationRepository,
-            ReservationTimeRepository reservationTimeRepository
+            ReservationTimeRepository reservationTimeRepository,
+            ReservationCatalog reservationCatalog,
+            SlotOccupancyIndex slotOccupancyIndex
     ) {
         this.reservationRepository = reservationRepository;
         this.reservationTimeRepository = reservationTimeRepository;
+        this.reservationCatalog = reservationCatalog;
+        this.slotOccupancyIndex = slotOccupancyIndex;
     }
 
     @Transactional
@@ -40,12 +51,13 @@ public class ReservationTimeService {
         }
 
         ReservationTime savedReservationTime = reservationTimeRepository.save(reservationTime);
+        reservationCatalog.evictReservationTimes();
 
         return ReservationTimeResponse.from(savedReservationTime);
     }
 
     public List<ReservationTimeResponse> getAllReservationTimes() {
-        List<ReservationTime> reservationTimes = reservationTimeRepository.findAll();
+        List<ReservationTime> reservationTimes = reservationCatalog.getReservationTimes();
 
         return reservationTimes.stream()
                 .map(ReservationTimeResponse::from)
@@ -53,14 +65,30 @@ public class ReservationTimeService {
     }
 
     public List<AvailableReservationTimeResponse> getAvailableReservationTimes(LocalDate date, Long themeId) {
-        List<AvailableReservationTimeDto> availableReservationTimeDtos = reservationTimeRepository
-                .findAvailableReservationTimes(date, themeId);
+        List<AvailableReservationTimeDto> availableReservationTimeDtos = slotOccupancyIndex
+                .findOccupiedTimeIds(date, themeId)
+                .map(this::toAvailableReservationTimes)
+                .orElseGet(() -> reservationTimeRepository.findAvailableReservationTimes(date, themeId));
 
         return availableReservationTimeDtos.stream()
                 .map(AvailableReservationTimeResponse::from)
                 .toList();
     }
 
+    public List<ThemeAvailabilityResponse> getAvailabilityGrid(LocalDate date) {
+        Map<Long, Set<Long>> occupiedTimeIdsByTheme = slotOccupancyIndex.findOccupiedTimeIdsByTheme(date)
+                .orElseGet(() -> findOccupiedTimeIdsByTheme(date));
+        List<ReservationTime> reservationTimes = reservationCatalog.getReservationTimes();
+
+        return reservationCatalog.getThemes().stream()
+                .map(theme -> ThemeAvailabilityResponse.of(
+                        theme,
+                        reservationTimes,
+                        occupiedTimeIdsByTheme.getOrDefault(theme.getId(), Set.of())
+                ))
+                .toList();
+    }
+
     @Transactional
     public void deleteReservationTimeById(Long id) {
         if (!reservationTimeRepository.existsById(id)) {
@@ -72,5 +100,24 @@ public class ReservationTimeService {
         }
 
         reservationTimeRepository.deleteById(id);
+        reservationCatalog.evictReservationTimes();
+    }
+
+    private List<AvailableReservationTimeDto> toAvailableReservationTimes(Set<Long> occupiedTimeIds) {
+        return reservationCatalog.getReservationTimes().stream()
+                .map(time -> new AvailableReservationTimeDto(
+                        time.getId(),
+                        time.getStartAt(),
+                        occupiedTimeIds.contains(time.getId())
+                ))
+                .toList();
+    }
+
+    private Map<Long, Set<Long>> findOccupiedTimeIdsByTheme(LocalDate date) {
+        return reservationRepository.findAllSlotsByDate(date).stream()
+                .collect(Collectors.groupingBy(
+                        ReservationSlotDto::themeId,
+                        Collectors.mapping(ReservationSlotDto::timeId, Collectors.toSet())
+                ));
     }
 }
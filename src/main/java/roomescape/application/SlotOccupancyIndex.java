@@ -0,0 +1,13 @@
+package roomescape.application;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+public interface SlotOccupancyIndex {
+
+    Optional<Set<Long>> findOccupiedTimeIds(LocalDate date, Long themeId);
+
+    Optional<Map<Long, Set<Long>>> findOccupiedTimeIdsByTheme(LocalDate date);
+}
@@ -0,0 +1,49 @@
+package roomescape.application;
+
+import java.time.LocalDate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import roomescape.domain.reservation.detail.ThemeRepository;
+import roomescape.domain.reservation.event.ReservationCreatedEvent;
+import roomescape.domain.reservation.event.ReservationDeletedEvent;
+import roomescape.domain.reservation.stats.ThemeDailyStats;
+import roomescape.domain.reservation.stats.ThemeDailyStatsRepository;
+
+@Component
+public class ThemeDailyStatsUpdater {
+
+    private final ThemeDailyStatsRepository themeDailyStatsRepository;
+    private final ThemeRepository themeRepository;
+
+    public ThemeDailyStatsUpdater(
+            ThemeDailyStatsRepository themeDailyStatsRepository,
+            ThemeRepository themeRepository
+    ) {
+        this.themeDailyStatsRepository = themeDailyStatsRepository;
+        this.themeRepository = themeRepository;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onReservationCreated(ReservationCreatedEvent event) {
+        increaseReservationCount(event.themeId(), event.date());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onReservationDeleted(ReservationDeletedEvent event) {
+        themeDailyStatsRepository.decreaseReservationCount(event.themeId(), event.date());
+    }
+
+    private void increaseReservationCount(Long themeId, LocalDate date) {
+        if (themeDailyStatsRepository.increaseReservationCount(themeId, date) > 0) {
+            return;
+        }
+
+        // 같은 테마의 첫 집계 행을 동시에 만들지 않도록 테마 행을 잠근 뒤 다시 확인한다.
+        themeRepository.findByIdForUpdate(themeId);
+
+        if (themeDailyStatsRepository.increaseReservationCount(themeId, date) == 0) {
+            themeDailyStatsRepository.save(new ThemeDailyStats(themeId, date, 1));
+        }
+    }
+}
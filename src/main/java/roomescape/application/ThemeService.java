@@ -10,6 +10,7 @@ import roomescape.domain.exception.DomainNotFoundException;
 import roomescape.domain.reservation.ReservationRepository;
 import roomescape.domain.reservation.detail.Theme;
 import roomescape.domain.reservation.detail.ThemeRepository;
+import roomescape.domain.reservation.stats.ThemeDailyStatsRepository;
 import roomescape.exception.BadRequestException;
 
 @Service
@@ -18,10 +19,19 @@ public class ThemeService {
 
     private final ReservationRepository reservationRepository;
     private final ThemeRepository themeRepository;
-
-    public ThemeService(ReservationRepository reservationRepository, ThemeRepository themeRepository) {
+    private final ThemeDailyStatsRepository themeDailyStatsRepository;
+    private final ReservationCatalog reservationCatalog;
+
+    public ThemeService(
+            ReservationRepository reservationRepository,
+            ThemeRepository themeRepository,
+            ThemeDailyStatsRepository themeDailyStatsRepository,
+            ReservationCatalog reservationCatalog
+    ) {
         this.reservationRepository = reservationRepository;
         this.themeRepository = themeRepository;
+        this.themeDailyStatsRepository = themeDailyStatsRepository;
+        this.reservationCatalog = reservationCatalog;
     }
 
     @Transactional
@@ -35,12 +45,13 @@ public class ThemeService {
         }
 
         Theme savedTheme = themeRepository.save(theme);
+        reservationCatalog.evictThemes();
 
         return ThemeResponse.from(savedTheme);
     }
 
     public List<ThemeResponse> getAllThemes() {
-        List<Theme> themes = themeRepository.findAll();
+        List<Theme> themes = reservationCatalog.getThemes();
 
         return themes.stream()
                 .map(ThemeResponse::from)
@@ -65,6 +76,8 @@ public class ThemeService {
             throw new BadRequestException("해당 테마를 사용하는 예약이 존재합니다.");
         }
 
+        themeDailyStatsRepository.deleteAllByThemeId(id);
         themeRepository.deleteById(id);
+        reservationCatalog.evictThemes();
     }
 }
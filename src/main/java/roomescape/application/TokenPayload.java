@@ -0,0 +1,21 @@
+package roomescape.application;
+
+import roomescape.application.dto.response.MemberResponse;
+import roomescape.domain.member.Member;
+import roomescape.domain.member.Role;
+
+public record TokenPayload(Long memberId, String email, String name, Role role) {
+
+    public static TokenPayload from(Member member) {
+        return new TokenPayload(member.getId(), member.getEmail(), member.getName(), member.getRole());
+    }
+
+    public static TokenPayload from(MemberResponse memberResponse) {
+        return new TokenPayload(
+                memberResponse.id(),
+                memberResponse.email(),
+                memberResponse.name(),
+                memberResponse.role()
+        );
+    }
+}
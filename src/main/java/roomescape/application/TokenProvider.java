@@ -2,7 +2,9 @@ package roomescape.application;
 
 public interface TokenProvider {
 
-    String createToken(String memberId);
+    String createToken(TokenPayload payload);
+
+    TokenPayload getPayload(String token);
 
     Long getMemberId(String token);
 }
@@ -0,0 +1,10 @@
+package roomescape.application;
+
+import java.time.Instant;
+
+public interface TokenRevocationList {
+
+    void revoke(Long memberId);
+
+    boolean isRevoked(Long memberId, Instant issuedAt);
+}
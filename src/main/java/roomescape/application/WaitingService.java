@@ -3,9 +3,12 @@ package roomescape.application;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import roomescape.application.dto.request.WaitingRequest;
+import roomescape.application.dto.request.WaitingSearchRequest;
 import roomescape.application.dto.response.ReservationResponse;
 import roomescape.application.dto.response.WaitingResponse;
 import roomescape.domain.member.Member;
@@ -16,9 +19,8 @@ import roomescape.domain.reservation.Waiting;
 import roomescape.domain.reservation.WaitingRepository;
 import roomescape.domain.reservation.detail.ReservationDetail;
 import roomescape.domain.reservation.detail.ReservationTime;
-import roomescape.domain.reservation.detail.ReservationTimeRepository;
 import roomescape.domain.reservation.detail.Theme;
-import roomescape.domain.reservation.detail.ThemeRepository;
+import roomescape.domain.reservation.dto.WaitingDetailDto;
 import roomescape.exception.BadRequestException;
 import roomescape.exception.UnauthorizedException;
 
@@ -27,23 +29,23 @@ import roomescape.exception.UnauthorizedException;
 public class WaitingService {
 
     private final ReservationRepository reservationRepository;
-    private final ReservationTimeRepository reservationTimeRepository;
-    private final ThemeRepository themeRepository;
+    private final ReservationCatalog reservationCatalog;
     private final MemberRepository memberRepository;
     private final WaitingRepository waitingRepository;
+    private final ReservationSlotLock reservationSlotLock;
 
     public WaitingService(
             ReservationRepository reservationRepository,
-            ReservationTimeRepository reservationTimeRepository,
-            ThemeRepository themeRepository,
+            ReservationCatalog reservationCatalog,
             MemberRepository memberRepository,
-            WaitingRepository waitingRepository
+            WaitingRepository waitingRepository,
+            ReservationSlotLock reservationSlotLock
     ) {
         this.reservationRepository = reservationRepository;
-        this.reservationTimeRepository = reservationTimeRepository;
-        this.themeRepository = themeRepository;
+        this.reservationCatalog = reservationCatalog;
         this.memberRepository = memberRepository;
         this.waitingRepository = waitingRepository;
+        this.reservationSlotLock = reservationSlotLock;
     }
 
     @Transactional
@@ -56,6 +58,8 @@ public class WaitingService {
                 request.memberId()
         );
 
+        reservationSlotLock.lockForTransaction(waiting.getDetail());
+
         validateReservationNotExists(waiting);
         validateCurrentMemberAlreadyReserved(waiting);
         validateCurrentMemberAlreadyWaiting(waiting);
@@ -65,10 +69,15 @@ public class WaitingService {
         return WaitingResponse.from(savedWaiting);
     }
 
-    public List<WaitingResponse> getWaitings() {
-        List<Waiting> waitings = waitingRepository.findAll();
+    public List<WaitingResponse> getWaitings(WaitingSearchRequest request) {
+        List<WaitingDetailDto> waitingDetails = waitingRepository.findWaitingDetails(
+                request.dateFrom(),
+                request.dateTo(),
+                request.lastIdOrZero(),
+                Limit.of(request.size())
+        );
 
-        return waitings.stream()
+        return waitingDetails.stream()
                 .map(WaitingResponse::from)
                 .toList();
     }
@@ -88,7 +97,7 @@ public class WaitingService {
     public ReservationResponse approveWaitingToReservation(LocalDateTime currentDateTime, Long waitingId) {
         Waiting waiting = waitingRepository.getById(waitingId);
 
-        validateReservationAlreadyExists(waiting);
+        reservationSlotLock.lockForTransaction(waiting.getDetail());
 
         Reservation reservation = Reservation.create(
                 currentDateTime,
@@ -96,7 +105,7 @@ public class WaitingService {
                 waiting.getMember()
         );
 
-        Reservation savedReservation = reservationRepository.save(reservation);
+        Reservation savedReservation = saveReservation(reservation);
         waitingRepository.delete(waiting);
 
         return ReservationResponse.from(savedReservation);
@@ -117,8 +126,8 @@ public class WaitingService {
             Long memberId
     ) {
         Member member = memberRepository.getById(memberId);
-        ReservationTime reservationTime = reservationTimeRepository.getById(timeId);
-        Theme theme = themeRepository.getById(themeId);
+        ReservationTime reservationTime = reservationCatalog.getReservationTime(timeId);
+        Theme theme = reservationCatalog.getTheme(themeId);
 
         ReservationDetail detail = new ReservationDetail(date, reservationTime, theme);
 
@@ -133,11 +142,14 @@ public class WaitingService {
         }
     }
 
-    private void validateReservationAlreadyExists(Waiting waiting) {
-        boolean reservationExists = reservationRepository.existsByDetail(waiting.getDetail());
-
-        if (reservationExists) {
-            throw new BadRequestException("이미 예약이 존재합니다.");
+    private Reservation saveReservation(Reservation reservation) {
+        try {
+            return reservationRepository.saveAndFlush(reservation);
+        } catch (DataIntegrityViolationException e) {
+            if (ReservationConstraints.isDetailDuplicated(e)) {
+                throw new BadRequestException("이미 예약이 존재합니다.");
+            }
+            throw e;
         }
     }
 
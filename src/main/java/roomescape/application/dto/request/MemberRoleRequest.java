@@ -0,0 +1,10 @@
+package roomescape.application.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import roomescape.domain.member.Role;
+
+public record MemberRoleRequest(
+        @NotNull(message = "역할을 입력해주세요.")
+        Role role
+) {
+}
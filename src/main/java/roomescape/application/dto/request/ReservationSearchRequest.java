@@ -0,0 +1,19 @@
+package roomescape.application.dto.request;
+
+import java.time.LocalDate;
+import roomescape.domain.reservation.dto.ReservationSearchCondition;
+
+public record ReservationSearchRequest(
+        Long memberId,
+        Long themeId,
+        LocalDate dateFrom,
+        LocalDate dateTo,
+        LocalDate lastDate,
+        Long lastId,
+        int size
+) {
+
+    public ReservationSearchCondition toCondition() {
+        return new ReservationSearchCondition(memberId, themeId, dateFrom, dateTo, lastDate, lastId, size);
+    }
+}
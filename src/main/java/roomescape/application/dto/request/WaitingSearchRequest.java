@@ -0,0 +1,15 @@
+package roomescape.application.dto.request;
+
+import java.time.LocalDate;
+
+public record WaitingSearchRequest(
+        LocalDate dateFrom,
+        LocalDate dateTo,
+        Long lastId,
+        int size
+) {
+
+    public long lastIdOrZero() {
+        return lastId == null ? 0L : lastId;
+    }
+}
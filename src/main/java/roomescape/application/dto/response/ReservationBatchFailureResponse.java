@@ -0,0 +1,4 @@
+package roomescape.application.dto.response;
+
+public record ReservationBatchFailureResponse(int index, String message) {
+}
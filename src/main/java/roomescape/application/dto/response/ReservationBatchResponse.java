@@ -0,0 +1,9 @@
+package roomescape.application.dto.response;
+
+import java.util.List;
+
+public record ReservationBatchResponse(
+        List<ReservationResponse> reservations,
+        List<ReservationBatchFailureResponse> failures
+) {
+}
@@ -0,0 +1,29 @@
+package roomescape.application.dto.response;
+
+import java.util.List;
+import java.util.Set;
+import roomescape.domain.reservation.detail.ReservationTime;
+import roomescape.domain.reservation.detail.Theme;
+
+public record ThemeAvailabilityResponse(
+        Long themeId,
+        String themeName,
+        List<AvailableReservationTimeResponse> times
+) {
+
+    public static ThemeAvailabilityResponse of(
+            Theme theme,
+            List<ReservationTime> reservationTimes,
+            Set<Long> occupiedTimeIds
+    ) {
+        List<AvailableReservationTimeResponse> times = reservationTimes.stream()
+                .map(time -> new AvailableReservationTimeResponse(
+                        time.getId(),
+                        time.getStartAt(),
+                        occupiedTimeIds.contains(time.getId())
+                ))
+                .toList();
+
+        return new ThemeAvailabilityResponse(theme.getId(), theme.getName(), times);
+    }
+}
@@ -2,6 +2,7 @@ package roomescape.application.dto.response;
 
 import java.time.LocalDate;
 import roomescape.domain.reservation.Waiting;
+import roomescape.domain.reservation.dto.WaitingDetailDto;
 
 public record WaitingResponse(
         Long id,
@@ -20,4 +21,24 @@ public record WaitingResponse(
                 ThemeResponse.from(waiting.getDetail().getTheme())
         );
     }
+
+    public static WaitingResponse from(WaitingDetailDto waitingDetail) {
+        return new WaitingResponse(
+                waitingDetail.id(),
+                waitingDetail.date(),
+                new MemberResponse(
+                        waitingDetail.memberId(),
+                        waitingDetail.memberEmail(),
+                        waitingDetail.memberName(),
+                        waitingDetail.memberRole()
+                ),
+                new ReservationTimeResponse(waitingDetail.timeId(), waitingDetail.startAt()),
+                new ThemeResponse(
+                        waitingDetail.themeId(),
+                        waitingDetail.themeName(),
+                        waitingDetail.themeDescription(),
+                        waitingDetail.themeThumbnail()
+                )
+        );
+    }
 }
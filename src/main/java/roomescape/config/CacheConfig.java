@@ -0,0 +1,41 @@
+package roomescape.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import roomescape.application.MemberService;
+import roomescape.application.ReservationCatalog;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${reservation.catalog-cache.spec}") String cacheSpecification,
+            @Value("${reservation.auth.role-check-ttl}") Duration roleCheckTtl
+    ) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCacheSpecification(cacheSpecification);
+        cacheManager.setCacheNames(List.of(
+                ReservationCatalog.THEMES,
+                ReservationCatalog.THEME,
+                ReservationCatalog.RESERVATION_TIMES,
+                ReservationCatalog.RESERVATION_TIME
+        ));
+        cacheManager.registerCustomCache(MemberService.MEMBER_ROLE, Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(roleCheckTtl)
+                .recordStats()
+                .build());
+
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
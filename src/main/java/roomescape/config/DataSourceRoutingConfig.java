@@ -0,0 +1,97 @@
+package roomescape.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import roomescape.application.AuthorizationExtractor;
+import roomescape.infra.ReadWriteRoutingDataSource;
+import roomescape.infra.ReadYourWritesTracker;
+import roomescape.presentation.ReadYourWritesFilter;
+
+@Configuration
+@ConditionalOnProperty(name = "reservation.datasource.routing.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public DataSourceRoutingConfig(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    // 풀마다 크기와 타임아웃을 따로 조정할 수 있도록 spring.datasource.hikari 대신 풀별 접두사로 바인딩한다.
+    @Bean(autowireCandidate = false)
+    @ConfigurationProperties("reservation.datasource.primary.hikari")
+    public HikariDataSource primaryDataSource(
+            @Value("${reservation.datasource.primary.url}") String url,
+            @Value("${reservation.datasource.primary.username:sa}") String username,
+            @Value("${reservation.datasource.primary.password:}") String password
+    ) {
+        return createDataSource("primary-pool", url, username, password);
+    }
+
+    @Bean(autowireCandidate = false)
+    @ConfigurationProperties("reservation.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            @Value("${reservation.datasource.replica.url}") String url,
+            @Value("${reservation.datasource.replica.username:sa}") String username,
+            @Value("${reservation.datasource.replica.password:}") String password
+    ) {
+        HikariDataSource dataSource = createDataSource("replica-pool", url, username, password);
+        dataSource.setReadOnly(true);
+
+        return dataSource;
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(
+            @Value("${reservation.datasource.routing.replica-lag-tolerance}") Duration replicaLagTolerance,
+            @Value("${reservation.datasource.routing.max-sessions}") long maximumSessions
+    ) {
+        return new ReadYourWritesTracker(replicaLagTolerance, maximumSessions);
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(
+            ReadYourWritesTracker readYourWritesTracker,
+            AuthorizationExtractor<String> authorizationExtractor
+    ) {
+        return new ReadYourWritesFilter(readYourWritesTracker, authorizationExtractor);
+    }
+
+    // 트랜잭션의 readOnly 여부가 정해진 뒤 커넥션을 얻도록 실제 커넥션 획득을 첫 쿼리 시점까지 미룬다.
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadYourWritesTracker readYourWritesTracker) {
+        ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource(
+                primaryDataSource(null, null, null),
+                replicaDataSource(null, null, null),
+                readYourWritesTracker
+        );
+
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    private HikariDataSource createDataSource(String poolName, String url, String username, String password) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        dataSource.setPoolName(poolName);
+        // autowireCandidate = false 인 풀은 자동 구성된 풀 메트릭에서 빠지므로 직접 등록한다.
+        meterRegistry.ifAvailable(dataSource::setMetricRegistry);
+
+        return dataSource;
+    }
+}
@@ -0,0 +1,69 @@
+package roomescape.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import java.time.Duration;
+import java.util.OptionalLong;
+import javax.cache.CacheManager;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.MissingCacheStrategy;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import roomescape.domain.member.Member;
+import roomescape.domain.reservation.detail.ReservationTime;
+import roomescape.domain.reservation.detail.Theme;
+
+@Configuration
+public class EntityCacheConfig {
+
+    // 컨텍스트마다 독립된 캐시를 쓰도록 전역 Caching 레지스트리 대신 프로바이더를 직접 생성한다.
+    @Bean(destroyMethod = "close")
+    public CacheManager entityCacheManager(
+            @Value("${reservation.entity-cache.expire-after-write}") Duration expireAfterWrite,
+            @Value("${reservation.entity-cache.member-size}") long memberSize,
+            @Value("${reservation.entity-cache.catalog-size}") long catalogSize,
+            @Value("${reservation.entity-cache.query-results-size}") long queryResultsSize
+    ) {
+        CacheManager cacheManager = new CaffeineCachingProvider().getCacheManager();
+
+        createCache(cacheManager, Member.class.getName(), memberSize, expireAfterWrite);
+        createCache(cacheManager, Theme.class.getName(), catalogSize, expireAfterWrite);
+        createCache(cacheManager, ReservationTime.class.getName(), catalogSize, expireAfterWrite);
+        createCache(cacheManager, RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+                queryResultsSize, expireAfterWrite);
+        // 타임스탬프가 먼저 사라지면 오래된 쿼리 결과를 최신으로 판단하므로 크기 제한과 만료를 두지 않는다.
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, configuration());
+
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer entityCacheCustomizer(CacheManager entityCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, entityCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, MissingCacheStrategy.FAIL.getExternalRepresentation());
+        };
+    }
+
+    private void createCache(CacheManager cacheManager, String region, long maximumSize, Duration expireAfterWrite) {
+        CaffeineConfiguration<Object, Object> configuration = configuration();
+        configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(expireAfterWrite.toNanos()));
+
+        cacheManager.createCache(region, configuration);
+    }
+
+    private CaffeineConfiguration<Object, Object> configuration() {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setStatisticsEnabled(true);
+
+        return configuration;
+    }
+}
@@ -1,15 +1,39 @@
 package roomescape.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import roomescape.application.PasswordEncoder;
 import roomescape.infra.BcryptPasswordEncoder;
+import roomescape.infra.BoundedPasswordEncoder;
 
 @Configuration
 public class SecurityConfig {
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BcryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${reservation.password.bcrypt-cost}") int bcryptCost,
+            @Value("${reservation.password.hashing.pool-size}") int poolSize,
+            @Value("${reservation.password.hashing.queue-capacity}") int queueCapacity,
+            @Value("${reservation.password.hashing.timeout}") Duration timeout,
+            MeterRegistry meterRegistry
+    ) {
+        return new BoundedPasswordEncoder(
+                new BcryptPasswordEncoder(bcryptCost),
+                resolvePoolSize(poolSize),
+                queueCapacity,
+                timeout,
+                meterRegistry
+        );
+    }
+
+    // 0 이하로 설정하면 해시 작업이 모든 코어를 쓰도록 코어 수만큼 스레드를 둔다.
+    private int resolvePoolSize(int poolSize) {
+        if (poolSize > 0) {
+            return poolSize;
+        }
+        return Runtime.getRuntime().availableProcessors();
     }
 }
@@ -7,10 +7,14 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import java.util.Objects;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import roomescape.domain.exception.DomainValidationException;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Member {
 
     private static final int EMAIL_MAX_LENGTH = 255;
@@ -18,7 +22,8 @@ public class Member {
     private static final int NAME_MAX_LENGTH = 30;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "member_seq")
+    @SequenceGenerator(name = "member_seq", sequenceName = "member_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true)
@@ -88,6 +93,16 @@ public class Member {
         }
     }
 
+    public void changePassword(String password) {
+        validatePassword(password);
+        this.password = password;
+    }
+
+    public void changeRole(Role role) {
+        validateRole(role);
+        this.role = role;
+    }
+
     private void validateRole(Role role) {
         if (role == null) {
             throw new DomainValidationException("역할은 필수 값입니다.");
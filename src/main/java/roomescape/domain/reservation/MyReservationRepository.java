@@ -0,0 +1,9 @@
+package roomescape.domain.reservation;
+
+import java.util.List;
+import roomescape.domain.reservation.dto.MyReservationDto;
+
+public interface MyReservationRepository {
+
+    List<MyReservationDto> findMyReservations(Long memberId);
+}
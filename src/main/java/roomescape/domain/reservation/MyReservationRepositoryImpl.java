@@ -0,0 +1,82 @@
+package roomescape.domain.reservation;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import org.hibernate.query.NativeQuery;
+import roomescape.domain.reservation.dto.MyReservationDto;
+
+public class MyReservationRepositoryImpl implements MyReservationRepository {
+
+    private static final String MY_RESERVATIONS_QUERY = """
+            SELECT
+                r.id AS id,
+                r.date AS reservation_date,
+                t.start_at AS start_at,
+                th.name AS theme_name,
+                'RESERVED' AS status,
+                0 AS waiting_rank
+            FROM Reservation AS r
+            JOIN Reservation_Time AS t ON t.id = r.time_id
+            JOIN Theme AS th ON th.id = r.theme_id
+            WHERE r.member_id = :memberId
+            UNION ALL
+            SELECT
+                ranked.id,
+                ranked.date,
+                t.start_at,
+                th.name,
+                'WAITING',
+                ranked.waiting_rank
+            FROM (
+                SELECT
+                    w.id,
+                    w.member_id,
+                    w.date,
+                    w.time_id,
+                    w.theme_id,
+                    ROW_NUMBER() OVER (PARTITION BY w.date, w.time_id, w.theme_id ORDER BY w.id) AS waiting_rank
+                FROM Waiting AS mine
+                JOIN Waiting AS w
+                ON w.date = mine.date
+                AND w.time_id = mine.time_id
+                AND w.theme_id = mine.theme_id
+                WHERE mine.member_id = :memberId
+            ) AS ranked
+            JOIN Reservation_Time AS t ON t.id = ranked.time_id
+            JOIN Theme AS th ON th.id = ranked.theme_id
+            WHERE ranked.member_id = :memberId
+            ORDER BY reservation_date, start_at, id
+            """;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<MyReservationDto> findMyReservations(Long memberId) {
+        List<Object[]> rows = em.createNativeQuery(MY_RESERVATIONS_QUERY)
+                .setParameter("memberId", memberId)
+                .unwrap(NativeQuery.class)
+                .addScalar("id", Long.class)
+                .addScalar("reservation_date", LocalDate.class)
+                .addScalar("start_at", LocalTime.class)
+                .addScalar("theme_name", String.class)
+                .addScalar("status", String.class)
+                .addScalar("waiting_rank", Long.class)
+                .getResultList();
+
+        return rows.stream()
+                .map(row -> new MyReservationDto(
+                        (Long) row[0],
+                        (LocalDate) row[1],
+                        (LocalTime) row[2],
+                        (String) row[3],
+                        (String) row[4],
+                        (Long) row[5]
+                ))
+                .toList();
+    }
+}
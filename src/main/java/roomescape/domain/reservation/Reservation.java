@@ -2,12 +2,17 @@ package roomescape.domain.reservation;
 
 import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import java.time.LocalDateTime;
 import java.util.Objects;
 import roomescape.domain.exception.DomainValidationException;
@@ -15,10 +20,25 @@ import roomescape.domain.member.Member;
 import roomescape.domain.reservation.detail.ReservationDetail;
 
 @Entity
+@EntityListeners(ReservationEventListener.class)
+@Table(
+        uniqueConstraints = @UniqueConstraint(
+                name = Reservation.DETAIL_UNIQUE_CONSTRAINT,
+                columnNames = {"date", "theme_id", "time_id"}
+        ),
+        indexes = {
+                @Index(name = "idx_reservation_date_id", columnList = "date, id"),
+                @Index(name = "idx_reservation_member_date_id", columnList = "member_id, date, id"),
+                @Index(name = "idx_reservation_theme_date_id", columnList = "theme_id, date, id")
+        }
+)
 public class Reservation {
 
+    public static final String DETAIL_UNIQUE_CONSTRAINT = "uk_reservation_detail";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reservation_seq")
+    @SequenceGenerator(name = "reservation_seq", sequenceName = "reservation_seq", allocationSize = 50)
     private Long id;
 
     @Embedded
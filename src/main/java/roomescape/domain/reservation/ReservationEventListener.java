@@ -0,0 +1,26 @@
+package roomescape.domain.reservation;
+
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreRemove;
+import org.springframework.context.ApplicationEventPublisher;
+import roomescape.domain.reservation.event.ReservationCreatedEvent;
+import roomescape.domain.reservation.event.ReservationDeletedEvent;
+
+public class ReservationEventListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ReservationEventListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PrePersist
+    public void publishCreatedEvent(Reservation reservation) {
+        eventPublisher.publishEvent(ReservationCreatedEvent.from(reservation));
+    }
+
+    @PreRemove
+    public void publishDeletedEvent(Reservation reservation) {
+        eventPublisher.publishEvent(ReservationDeletedEvent.from(reservation));
+    }
+}
@@ -1,16 +1,21 @@
 package roomescape.domain.reservation;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.ListCrudRepository;
 import org.springframework.data.repository.query.Param;
 import roomescape.domain.exception.DomainNotFoundException;
 import roomescape.domain.reservation.detail.ReservationDetail;
+import roomescape.domain.reservation.dto.ReservationSlotDto;
 
-public interface ReservationRepository extends ListCrudRepository<Reservation, Long> {
+public interface ReservationRepository
+        extends ListCrudRepository<Reservation, Long>, ReservationSearchRepository, MyReservationRepository {
 
-    List<Reservation> findByMemberId(long memberId);
+    <S extends Reservation> S saveAndFlush(S reservation);
+
+    <S extends Reservation> List<S> saveAllAndFlush(Iterable<S> reservations);
 
     boolean existsByDetail_TimeId(long timeId);
 
@@ -21,19 +26,45 @@ public interface ReservationRepository extends ListCrudRepository<Reservation, L
     boolean existsByDetailAndMemberId(ReservationDetail detail, long memberId);
 
     @Query("""
-                SELECT r
+                SELECT
+                    new roomescape.domain.reservation.dto.ReservationSlotDto(
+                        r.detail.date,
+                        r.detail.time.id,
+                        r.detail.theme.id
+                    )
+                FROM Reservation r
+                WHERE r.detail.date >= :dateFrom
+            """)
+    List<ReservationSlotDto> findAllSlotsFrom(@Param("dateFrom") LocalDate dateFrom);
+
+    @Query("""
+                SELECT
+                    new roomescape.domain.reservation.dto.ReservationSlotDto(
+                        r.detail.date,
+                        r.detail.time.id,
+                        r.detail.theme.id
+                    )
+                FROM Reservation r
+                WHERE r.detail.date = :date
+            """)
+    List<ReservationSlotDto> findAllSlotsByDate(@Param("date") LocalDate date);
+
+    @Query("""
+                SELECT
+                    new roomescape.domain.reservation.dto.ReservationSlotDto(
+                        r.detail.date,
+                        r.detail.time.id,
+                        r.detail.theme.id
+                    )
                 FROM Reservation r
-                JOIN FETCH r.detail
-                WHERE (:memberId IS NULL OR r.member.id = :memberId)
-                AND (:themeId IS NULL OR r.detail.theme.id = :themeId)
-                AND (:dateFrom IS NULL OR r.detail.date >= :dateFrom)
-                AND (:dateTo IS NULL OR r.detail.date <= :dateTo)
+                WHERE r.detail.date IN :dates
+                AND r.detail.time.id IN :timeIds
+                AND r.detail.theme.id IN :themeIds
             """)
-    List<Reservation> findAllByConditions(
-            @Param("memberId") Long memberId,
-            @Param("themeId") Long themeId,
-            @Param("dateFrom") LocalDate dateFrom,
-            @Param("dateTo") LocalDate dateTo
+    List<ReservationSlotDto> findAllSlotsIn(
+            @Param("dates") Collection<LocalDate> dates,
+            @Param("timeIds") Collection<Long> timeIds,
+            @Param("themeIds") Collection<Long> themeIds
     );
 
     default Reservation getById(Long id) {
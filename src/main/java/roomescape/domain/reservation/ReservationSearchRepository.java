@@ -0,0 +1,9 @@
+package roomescape.domain.reservation;
+
+import java.util.List;
+import roomescape.domain.reservation.dto.ReservationSearchCondition;
+
+public interface ReservationSearchRepository {
+
+    List<Reservation> search(ReservationSearchCondition condition);
+}
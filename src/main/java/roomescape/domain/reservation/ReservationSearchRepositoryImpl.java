@@ -0,0 +1,77 @@
+package roomescape.domain.reservation;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Fetch;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import roomescape.domain.reservation.detail.ReservationDetail;
+import roomescape.domain.reservation.dto.ReservationSearchCondition;
+
+public class ReservationSearchRepositoryImpl implements ReservationSearchRepository {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public List<Reservation> search(ReservationSearchCondition condition) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Reservation> query = cb.createQuery(Reservation.class);
+        Root<Reservation> reservation = query.from(Reservation.class);
+        reservation.fetch("member");
+        Fetch<Reservation, ReservationDetail> detail = reservation.fetch("detail");
+        detail.fetch("time");
+        detail.fetch("theme");
+        Path<LocalDate> date = reservation.get("detail").get("date");
+        Path<Long> id = reservation.get("id");
+
+        query.select(reservation)
+                .where(createPredicates(cb, reservation, date, id, condition).toArray(Predicate[]::new))
+                .orderBy(cb.asc(date), cb.asc(id));
+
+        return em.createQuery(query)
+                .setMaxResults(condition.size())
+                .getResultList();
+    }
+
+    private List<Predicate> createPredicates(
+            CriteriaBuilder cb,
+            Root<Reservation> reservation,
+            Path<LocalDate> date,
+            Path<Long> id,
+            ReservationSearchCondition condition
+    ) {
+        List<Predicate> predicates = new ArrayList<>();
+
+        if (condition.memberId() != null) {
+            predicates.add(cb.equal(reservation.get("member").get("id"), condition.memberId()));
+        }
+
+        if (condition.themeId() != null) {
+            predicates.add(cb.equal(reservation.get("detail").get("theme").get("id"), condition.themeId()));
+        }
+
+        if (condition.dateFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(date, condition.dateFrom()));
+        }
+
+        if (condition.dateTo() != null) {
+            predicates.add(cb.lessThanOrEqualTo(date, condition.dateTo()));
+        }
+
+        if (condition.hasCursor()) {
+            predicates.add(cb.or(
+                    cb.greaterThan(date, condition.lastDate()),
+                    cb.and(cb.equal(date, condition.lastDate()), cb.greaterThan(id, condition.lastId()))
+            ));
+        }
+
+        return predicates;
+    }
+}
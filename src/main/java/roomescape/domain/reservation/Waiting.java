@@ -6,8 +6,11 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import java.util.Objects;
 import roomescape.domain.exception.DomainValidationException;
@@ -15,10 +18,15 @@ import roomescape.domain.member.Member;
 import roomescape.domain.reservation.detail.ReservationDetail;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_waiting_detail_id", columnList = "date, time_id, theme_id, id"),
+        @Index(name = "idx_waiting_member_id", columnList = "member_id, id")
+})
 public class Waiting {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "waiting_seq")
+    @SequenceGenerator(name = "waiting_seq", sequenceName = "waiting_seq", allocationSize = 50)
     private Long id;
 
     @Embedded
@@ -1,32 +1,38 @@
 package roomescape.domain.reservation;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.ListCrudRepository;
+import org.springframework.data.repository.query.Param;
 import roomescape.domain.exception.DomainNotFoundException;
 import roomescape.domain.reservation.detail.ReservationDetail;
-import roomescape.domain.reservation.dto.WaitingWithRankDto;
+import roomescape.domain.reservation.dto.ReservationSlotDto;
 
-public interface WaitingRepository extends ListCrudRepository<Waiting, Long> {
+public interface WaitingRepository extends ListCrudRepository<Waiting, Long>, WaitingSearchRepository {
 
     boolean existsByDetail(ReservationDetail detail);
 
     boolean existsByDetailAndMemberId(ReservationDetail detail, long memberId);
 
     @Query("""
-            SELECT
-                new roomescape.domain.reservation.dto.WaitingWithRankDto(
-                    w,
-                    COUNT(*)
-                )
-            FROM Waiting w
-            JOIN Waiting w2
-            ON w2.detail = w.detail
-            JOIN FETCH w.detail
-            WHERE w.member.id = :memberId AND w2.id <= w.id
-            GROUP BY w.id
+                SELECT DISTINCT
+                    new roomescape.domain.reservation.dto.ReservationSlotDto(
+                        w.detail.date,
+                        w.detail.time.id,
+                        w.detail.theme.id
+                    )
+                FROM Waiting w
+                WHERE w.detail.date IN :dates
+                AND w.detail.time.id IN :timeIds
+                AND w.detail.theme.id IN :themeIds
             """)
-    List<WaitingWithRankDto> findWaitingsWithRankByMemberId(Long memberId);
+    List<ReservationSlotDto> findAllSlotsIn(
+            @Param("dates") Collection<LocalDate> dates,
+            @Param("timeIds") Collection<Long> timeIds,
+            @Param("themeIds") Collection<Long> themeIds
+    );
 
     default Waiting getById(Long id) {
         return findById(id)
@@ -0,0 +1,11 @@
+package roomescape.domain.reservation;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import roomescape.domain.reservation.dto.WaitingDetailDto;
+
+public interface WaitingSearchRepository {
+
+    List<WaitingDetailDto> findWaitingDetails(LocalDate dateFrom, LocalDate dateTo, long lastId, Limit limit);
+}
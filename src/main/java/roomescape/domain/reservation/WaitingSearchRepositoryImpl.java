@@ -0,0 +1,87 @@
+package roomescape.domain.reservation;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import roomescape.domain.member.Member;
+import roomescape.domain.reservation.detail.ReservationDetail;
+import roomescape.domain.reservation.detail.ReservationTime;
+import roomescape.domain.reservation.detail.Theme;
+import roomescape.domain.reservation.dto.WaitingDetailDto;
+
+public class WaitingSearchRepositoryImpl implements WaitingSearchRepository {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public List<WaitingDetailDto> findWaitingDetails(LocalDate dateFrom, LocalDate dateTo, long lastId, Limit limit) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<WaitingDetailDto> query = cb.createQuery(WaitingDetailDto.class);
+        Root<Waiting> waiting = query.from(Waiting.class);
+        Join<Waiting, Member> member = waiting.join("member");
+        Join<Waiting, ReservationDetail> detail = waiting.join("detail");
+        Join<ReservationDetail, ReservationTime> time = detail.join("time");
+        Join<ReservationDetail, Theme> theme = detail.join("theme");
+        Path<LocalDate> date = waiting.get("detail").get("date");
+        Path<Long> id = waiting.get("id");
+
+        query.select(cb.construct(
+                        WaitingDetailDto.class,
+                        id,
+                        date,
+                        member.get("id"),
+                        member.get("email"),
+                        member.get("name"),
+                        member.get("role"),
+                        time.get("id"),
+                        time.get("startAt"),
+                        theme.get("id"),
+                        theme.get("name"),
+                        theme.get("description"),
+                        theme.get("thumbnail")
+                ))
+                .where(createPredicates(cb, date, id, dateFrom, dateTo, lastId).toArray(Predicate[]::new))
+                .orderBy(cb.asc(id));
+
+        TypedQuery<WaitingDetailDto> typedQuery = em.createQuery(query);
+        if (limit.isLimited()) {
+            typedQuery.setMaxResults(limit.max());
+        }
+
+        return typedQuery.getResultList();
+    }
+
+    private List<Predicate> createPredicates(
+            CriteriaBuilder cb,
+            Path<LocalDate> date,
+            Path<Long> id,
+            LocalDate dateFrom,
+            LocalDate dateTo,
+            long lastId
+    ) {
+        List<Predicate> predicates = new ArrayList<>();
+
+        if (dateFrom != null) {
+            predicates.add(cb.greaterThanOrEqualTo(date, dateFrom));
+        }
+
+        if (dateTo != null) {
+            predicates.add(cb.lessThanOrEqualTo(date, dateTo));
+        }
+
+        predicates.add(cb.greaterThan(id, lastId));
+
+        return predicates;
+    }
+}
@@ -1,9 +1,12 @@
 package roomescape.domain.reservation.detail;
 
+import jakarta.persistence.QueryHint;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.ListCrudRepository;
 import org.springframework.data.repository.query.Param;
 import roomescape.domain.exception.DomainNotFoundException;
@@ -11,6 +14,10 @@ import roomescape.domain.reservation.dto.AvailableReservationTimeDto;
 
 public interface ReservationTimeRepository extends ListCrudRepository<ReservationTime, Long> {
 
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<ReservationTime> findAll();
+
     boolean existsByStartAt(LocalTime startAt);
 
     @Query("""
@@ -5,11 +5,15 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import java.util.Objects;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import roomescape.domain.exception.DomainValidationException;
 import roomescape.domain.member.Member;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Theme {
 
     private static final int NAME_MAX_LENGTH = 30;
@@ -17,7 +21,8 @@ public class Theme {
     private static final int THUMBNAIL_MAX_LENGTH = 255;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "theme_seq")
+    @SequenceGenerator(name = "theme_seq", sequenceName = "theme_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = NAME_MAX_LENGTH)
@@ -1,14 +1,24 @@
 package roomescape.domain.reservation.detail;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.ListCrudRepository;
 import org.springframework.data.repository.query.Param;
 import roomescape.domain.exception.DomainNotFoundException;
 
 public interface ThemeRepository extends ListCrudRepository<Theme, Long> {
 
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Theme> findAll();
+
     boolean existsByName(String name);
 
     @Query(value = """
@@ -17,12 +27,13 @@ public interface ThemeRepository extends ListCrudRepository<Theme, Long> {
                     th.name,
                     th.description,
                     th.thumbnail
-                FROM Theme AS th
-                JOIN Reservation AS r
-                ON th.id = r.theme_id
-                WHERE :startDate <= r.date AND r.date <= :endDate
+                FROM Theme_Daily_Stats AS s
+                JOIN Theme AS th
+                ON th.id = s.theme_id
+                WHERE :startDate <= s.date AND s.date <= :endDate
                 GROUP BY th.id
-                ORDER BY COUNT(th.id) DESC
+                HAVING SUM(s.reservation_count) > 0
+                ORDER BY SUM(s.reservation_count) DESC
                 LIMIT :limit
             """, nativeQuery = true)
     List<Theme> findPopularThemes(
@@ -31,6 +42,10 @@ public interface ThemeRepository extends ListCrudRepository<Theme, Long> {
             @Param("limit") int limit
     );
 
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT th FROM Theme th WHERE th.id = :id")
+    Optional<Theme> findByIdForUpdate(@Param("id") Long id);
+
     default Theme getById(Long id) {
         return findById(id)
                 .orElseThrow(() -> new DomainNotFoundException(String.format("해당 id의 테마가 존재하지 않습니다. (id: %d)", id)));
@@ -0,0 +1,14 @@
+package roomescape.domain.reservation.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+public record MyReservationDto(
+        Long id,
+        LocalDate date,
+        LocalTime startAt,
+        String themeName,
+        String status,
+        Long rank
+) {
+}
@@ -0,0 +1,18 @@
+package roomescape.domain.reservation.dto;
+
+import java.time.LocalDate;
+
+public record ReservationSearchCondition(
+        Long memberId,
+        Long themeId,
+        LocalDate dateFrom,
+        LocalDate dateTo,
+        LocalDate lastDate,
+        Long lastId,
+        int size
+) {
+
+    public boolean hasCursor() {
+        return lastDate != null && lastId != null;
+    }
+}
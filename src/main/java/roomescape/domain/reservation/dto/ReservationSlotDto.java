@@ -0,0 +1,6 @@
+package roomescape.domain.reservation.dto;
+
+import java.time.LocalDate;
+
+public record ReservationSlotDto(LocalDate date, Long timeId, Long themeId) {
+}
@@ -0,0 +1,21 @@
+package roomescape.domain.reservation.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import roomescape.domain.member.Role;
+
+public record WaitingDetailDto(
+        Long id,
+        LocalDate date,
+        Long memberId,
+        String memberEmail,
+        String memberName,
+        Role memberRole,
+        Long timeId,
+        LocalTime startAt,
+        Long themeId,
+        String themeName,
+        String themeDescription,
+        String themeThumbnail
+) {
+}
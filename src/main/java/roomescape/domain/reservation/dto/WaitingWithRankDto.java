@@ -1,6 +0,0 @@
-package roomescape.domain.reservation.dto;
-
-import roomescape.domain.reservation.Waiting;
-
-public record WaitingWithRankDto(Waiting waiting, Long rank) {
-}
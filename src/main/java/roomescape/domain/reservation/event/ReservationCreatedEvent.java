@@ -0,0 +1,14 @@
+package roomescape.domain.reservation.event;
+
+import java.time.LocalDate;
+import roomescape.domain.reservation.Reservation;
+import roomescape.domain.reservation.detail.ReservationDetail;
+
+public record ReservationCreatedEvent(LocalDate date, Long timeId, Long themeId) {
+
+    public static ReservationCreatedEvent from(Reservation reservation) {
+        ReservationDetail detail = reservation.getDetail();
+
+        return new ReservationCreatedEvent(detail.getDate(), detail.getTime().getId(), detail.getTheme().getId());
+    }
+}
@@ -0,0 +1,93 @@
+package roomescape.domain.reservation.stats;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import java.util.Objects;
+import roomescape.domain.exception.DomainValidationException;
+
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(
+        name = "uk_theme_daily_stats",
+        columnNames = {"theme_id", "date"}
+))
+public class ThemeDailyStats {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "theme_daily_stats_seq")
+    @SequenceGenerator(name = "theme_daily_stats_seq", sequenceName = "theme_daily_stats_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long themeId;
+
+    @Column(nullable = false)
+    private LocalDate date;
+
+    @Column(nullable = false)
+    private long reservationCount;
+
+    protected ThemeDailyStats() {
+    }
+
+    public ThemeDailyStats(Long themeId, LocalDate date, long reservationCount) {
+        validate(themeId, date, reservationCount);
+
+        this.themeId = themeId;
+        this.date = date;
+        this.reservationCount = reservationCount;
+    }
+
+    private void validate(Long themeId, LocalDate date, long reservationCount) {
+        if (themeId == null) {
+            throw new DomainValidationException("테마는 필수 값입니다.");
+        }
+
+        if (date == null) {
+            throw new DomainValidationException("날짜는 필수 값입니다.");
+        }
+
+        if (reservationCount < 0) {
+            throw new DomainValidationException("예약 수는 0 이상이어야 합니다.");
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ThemeDailyStats themeDailyStats)) {
+            return false;
+        }
+
+        return this.getId() != null && Objects.equals(getId(), themeDailyStats.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getId());
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getThemeId() {
+        return themeId;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public long getReservationCount() {
+        return reservationCount;
+    }
+}
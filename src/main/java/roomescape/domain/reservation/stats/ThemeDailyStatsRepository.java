@@ -0,0 +1,30 @@
+package roomescape.domain.reservation.stats;
+
+import java.time.LocalDate;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.ListCrudRepository;
+import org.springframework.data.repository.query.Param;
+
+public interface ThemeDailyStatsRepository extends ListCrudRepository<ThemeDailyStats, Long> {
+
+    @Modifying
+    @Query("""
+                UPDATE ThemeDailyStats s
+                SET s.reservationCount = s.reservationCount + 1
+                WHERE s.themeId = :themeId AND s.date = :date
+            """)
+    int increaseReservationCount(@Param("themeId") Long themeId, @Param("date") LocalDate date);
+
+    @Modifying
+    @Query("""
+                UPDATE ThemeDailyStats s
+                SET s.reservationCount = s.reservationCount - 1
+                WHERE s.themeId = :themeId AND s.date = :date AND s.reservationCount > 0
+            """)
+    int decreaseReservationCount(@Param("themeId") Long themeId, @Param("date") LocalDate date);
+
+    @Modifying
+    @Query("DELETE FROM ThemeDailyStats s WHERE s.themeId = :themeId")
+    void deleteAllByThemeId(@Param("themeId") Long themeId);
+}
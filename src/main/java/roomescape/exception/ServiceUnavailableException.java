@@ -0,0 +1,8 @@
+package roomescape.exception;
+
+public class ServiceUnavailableException extends ApplicationException {
+
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
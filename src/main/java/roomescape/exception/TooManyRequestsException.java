@@ -0,0 +1,23 @@
+package roomescape.exception;
+
+import java.time.Duration;
+
+public class TooManyRequestsException extends ApplicationException {
+
+    private static final Duration DEFAULT_RETRY_AFTER = Duration.ofSeconds(1);
+
+    private final Duration retryAfter;
+
+    public TooManyRequestsException(String message) {
+        this(message, DEFAULT_RETRY_AFTER);
+    }
+
+    public TooManyRequestsException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
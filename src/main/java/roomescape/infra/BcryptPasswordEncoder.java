@@ -5,13 +5,40 @@ import roomescape.application.PasswordEncoder;
 
 public class BcryptPasswordEncoder implements PasswordEncoder {
 
+    private static final int MIN_COST = 4;
+    private static final int MAX_COST = 31;
+    private static final int COST_BEGIN_INDEX = 4;
+    private static final int COST_END_INDEX = 6;
+
+    private final int cost;
+
+    public BcryptPasswordEncoder(int cost) {
+        if (cost < MIN_COST || cost > MAX_COST) {
+            throw new IllegalArgumentException(
+                    String.format("BCrypt 비용 인자는 %d 이상 %d 이하여야 합니다.", MIN_COST, MAX_COST));
+        }
+
+        this.cost = cost;
+    }
+
     @Override
     public String encode(String rawPassword) {
-        return BCrypt.hashpw(rawPassword, BCrypt.gensalt());
+        return BCrypt.hashpw(rawPassword, BCrypt.gensalt(cost));
     }
 
     @Override
     public boolean matches(String rawPassword, String encodedPassword) {
         return BCrypt.checkpw(rawPassword, encodedPassword);
     }
+
+    // 해시는 $2a$10$... 형식이므로 해시 계산 없이 저장된 비용 인자만 비교한다.
+    @Override
+    public boolean needsRehash(String encodedPassword) {
+        try {
+            int encodedCost = Integer.parseInt(encodedPassword.substring(COST_BEGIN_INDEX, COST_END_INDEX));
+            return encodedCost != cost;
+        } catch (IndexOutOfBoundsException | NumberFormatException e) {
+            return true;
+        }
+    }
 }
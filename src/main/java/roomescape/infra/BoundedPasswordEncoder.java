@@ -0,0 +1,153 @@
+package roomescape.infra;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.DisposableBean;
+import roomescape.application.PasswordEncoder;
+import roomescape.exception.ServiceUnavailableException;
+import roomescape.exception.TooManyRequestsException;
+
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    public static final String METRIC_NAME = "reservation.password.hash";
+    public static final String REJECTED_METRIC_NAME = "reservation.password.hash.rejected";
+    public static final String EXECUTOR_NAME = "password-hashing";
+
+    private static final String BUSY_MESSAGE = "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.";
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutNanos;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter queueFullCounter;
+    private final Counter timeoutCounter;
+
+    public BoundedPasswordEncoder(
+            PasswordEncoder delegate,
+            int poolSize,
+            int queueCapacity,
+            Duration timeout,
+            MeterRegistry meterRegistry
+    ) {
+        if (poolSize < 1) {
+            throw new IllegalArgumentException("해시 스레드 개수는 1 이상이어야 합니다.");
+        }
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("해시 대기열 크기는 1 이상이어야 합니다.");
+        }
+        if (timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("해시 대기 시간은 0보다 커야 합니다.");
+        }
+
+        this.delegate = delegate;
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new HashingThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.timeoutNanos = timeout.toNanos();
+        this.encodeTimer = Timer.builder(METRIC_NAME)
+                .tag("operation", "encode")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder(METRIC_NAME)
+                .tag("operation", "matches")
+                .register(meterRegistry);
+        this.queueFullCounter = Counter.builder(REJECTED_METRIC_NAME)
+                .tag("reason", "queue_full")
+                .register(meterRegistry);
+        this.timeoutCounter = Counter.builder(REJECTED_METRIC_NAME)
+                .tag("reason", "timeout")
+                .register(meterRegistry);
+
+        new ExecutorServiceMetrics(executor, EXECUTOR_NAME, List.of()).bindTo(meterRegistry);
+    }
+
+    @Override
+    public String encode(String rawPassword) {
+        return execute(() -> encodeTimer.record(() -> delegate.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return execute(() -> matchesTimer.record(() -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    @Override
+    public boolean needsRehash(String encodedPassword) {
+        return delegate.needsRehash(encodedPassword);
+    }
+
+    // 해시 작업은 CPU 코어 수만큼만 동시에 실행하고, 대기열이 가득 차거나 오래 기다린 요청은 바로 거절한다.
+    private <T> T execute(Supplier<T> task) {
+        Future<T> future = submit(task);
+
+        try {
+            return future.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timeoutCounter.increment();
+            throw new ServiceUnavailableException(BUSY_MESSAGE);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException(BUSY_MESSAGE);
+        } catch (ExecutionException e) {
+            throw rethrow(e.getCause());
+        }
+    }
+
+    private <T> Future<T> submit(Supplier<T> task) {
+        try {
+            return executor.submit(task::get);
+        } catch (RejectedExecutionException e) {
+            queueFullCounter.increment();
+            throw new TooManyRequestsException(BUSY_MESSAGE);
+        }
+    }
+
+    private RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(cause);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private static class HashingThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, EXECUTOR_NAME + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package roomescape.infra;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class ConnectionHoldTimeDataSource extends DelegatingDataSource {
+
+    public static final String METRIC_NAME = "reservation.datasource.connection.hold";
+    public static final String NON_TRANSACTIONAL = "none";
+
+    private final Supplier<MeterRegistry> meterRegistry;
+
+    public ConnectionHoldTimeDataSource(DataSource targetDataSource, Supplier<MeterRegistry> meterRegistry) {
+        super(targetDataSource);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return track(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return track(super.getConnection(username, password));
+    }
+
+    private Connection track(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                new HoldTimeRecorder(connection, System.nanoTime())
+        );
+    }
+
+    private class HoldTimeRecorder implements InvocationHandler {
+
+        private final Connection target;
+        private final long acquiredAt;
+        private String transactionName;
+        private boolean closed;
+
+        HoldTimeRecorder(Connection target, long acquiredAt) {
+            this.target = target;
+            this.acquiredAt = acquiredAt;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getName().equals("close")) {
+                record();
+            } else {
+                captureTransactionName();
+            }
+
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+
+        // 트랜잭션 매니저는 트랜잭션 이름을 등록하기 전에 커넥션을 얻으므로, 커넥션을 실제로 사용하는 시점에 이름을 기록한다.
+        private void captureTransactionName() {
+            if (transactionName == null) {
+                transactionName = TransactionSynchronizationManager.getCurrentTransactionName();
+            }
+        }
+
+        private void record() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+
+            MeterRegistry registry = meterRegistry.get();
+            if (registry == null) {
+                return;
+            }
+
+            Timer.builder(METRIC_NAME)
+                    .description("트랜잭션별 커넥션 점유 시간")
+                    .tag("transaction", transactionName == null ? NON_TRANSACTIONAL : transactionName)
+                    .register(registry)
+                    .record(System.nanoTime() - acquiredAt, TimeUnit.NANOSECONDS);
+        }
+    }
+}
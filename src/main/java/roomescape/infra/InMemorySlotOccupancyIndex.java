@@ -0,0 +1,191 @@
+package roomescape.infra;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import roomescape.application.SlotOccupancyIndex;
+import roomescape.domain.reservation.ReservationRepository;
+import roomescape.domain.reservation.dto.ReservationSlotDto;
+import roomescape.domain.reservation.event.ReservationCreatedEvent;
+import roomescape.domain.reservation.event.ReservationDeletedEvent;
+
+@Component
+public class InMemorySlotOccupancyIndex implements SlotOccupancyIndex, SmartInitializingSingleton {
+
+    private static final String DRIFT_METRIC_NAME = "reservation.slot-index.drift";
+
+    private final Logger log = LoggerFactory.getLogger(InMemorySlotOccupancyIndex.class);
+    private final ReservationRepository reservationRepository;
+    private final Clock clock;
+    private final Counter driftCounter;
+    private final Map<LocalDate, Map<Long, BitSet>> occupancies = new ConcurrentHashMap<>();
+
+    private volatile LocalDate coveredFrom;
+
+    public InMemorySlotOccupancyIndex(
+            ReservationRepository reservationRepository,
+            Clock clock,
+            MeterRegistry meterRegistry
+    ) {
+        this.reservationRepository = reservationRepository;
+        this.clock = clock;
+        this.driftCounter = Counter.builder(DRIFT_METRIC_NAME)
+                .description("DB와 달라 다시 맞춘 예약 점유 인덱스의 날짜 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        LocalDate today = LocalDate.now(clock);
+        Map<LocalDate, Map<Long, BitSet>> expected = toOccupancies(reservationRepository.findAllSlotsFrom(today));
+
+        occupancies.clear();
+        occupancies.putAll(expected);
+        coveredFrom = today;
+    }
+
+    /**
+     * 지난 날짜를 인덱스에서 비우고, 오늘 이후의 점유 상태를 DB와 비교해 어긋난 날짜만 다시 맞춘다.
+     * DB를 읽는 동안 예약 이벤트로 바뀐 날짜는 스냅샷보다 최신이므로 덮어쓰지 않는다.
+     *
+     * @return DB와 달라 다시 맞춘 날짜 수
+     */
+    @Scheduled(
+            initialDelayString = "${reservation.slot-index.reconcile-interval}",
+            fixedDelayString = "${reservation.slot-index.reconcile-interval}"
+    )
+    public int reconcile() {
+        LocalDate today = LocalDate.now(clock);
+        coveredFrom = today;
+        occupancies.keySet().removeIf(date -> date.isBefore(today));
+
+        Map<LocalDate, Map<Long, BitSet>> observed = new HashMap<>(occupancies);
+        Map<LocalDate, Map<Long, BitSet>> expected = toOccupancies(reservationRepository.findAllSlotsFrom(today));
+
+        Set<LocalDate> dates = new HashSet<>(observed.keySet());
+        dates.addAll(expected.keySet());
+        List<LocalDate> driftedDates = dates.stream()
+                .filter(date -> !Objects.equals(observed.get(date), expected.get(date)))
+                .filter(date -> replaceIfUnchanged(date, observed.get(date), expected.get(date)))
+                .sorted()
+                .toList();
+
+        if (!driftedDates.isEmpty()) {
+            driftCounter.increment(driftedDates.size());
+            log.warn("[SlotOccupancyIndex] DB와 다른 날짜를 다시 맞췄습니다. {}", driftedDates);
+        }
+
+        return driftedDates.size();
+    }
+
+    public void clear() {
+        occupancies.clear();
+    }
+
+    @Override
+    public Optional<Set<Long>> findOccupiedTimeIds(LocalDate date, Long themeId) {
+        return findOccupiedTimeIdsByTheme(date)
+                .map(occupiedTimeIdsByTheme -> occupiedTimeIdsByTheme.getOrDefault(themeId, Set.of()));
+    }
+
+    @Override
+    public Optional<Map<Long, Set<Long>>> findOccupiedTimeIdsByTheme(LocalDate date) {
+        LocalDate from = coveredFrom;
+
+        if (from == null || date.isBefore(from)) {
+            return Optional.empty();
+        }
+
+        Map<Long, BitSet> occupancyByTheme = occupancies.getOrDefault(date, Map.of());
+        Map<Long, Set<Long>> occupiedTimeIdsByTheme = occupancyByTheme.entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, entry -> toTimeIds(entry.getValue())));
+
+        return Optional.of(occupiedTimeIdsByTheme);
+    }
+
+    @TransactionalEventListener
+    public void onReservationCreated(ReservationCreatedEvent event) {
+        occupy(event.date(), event.timeId(), event.themeId());
+    }
+
+    @TransactionalEventListener
+    public void onReservationDeleted(ReservationDeletedEvent event) {
+        release(event.date(), event.timeId(), event.themeId());
+    }
+
+    private void occupy(LocalDate date, Long timeId, Long themeId) {
+        occupancies.compute(date, (key, occupancyByTheme) -> {
+            Map<Long, BitSet> copied = occupancyByTheme == null ? new HashMap<>() : new HashMap<>(occupancyByTheme);
+            BitSet occupancy = (BitSet) copied.getOrDefault(themeId, new BitSet()).clone();
+            occupancy.set(Math.toIntExact(timeId));
+            copied.put(themeId, occupancy);
+
+            return Map.copyOf(copied);
+        });
+    }
+
+    private void release(LocalDate date, Long timeId, Long themeId) {
+        occupancies.computeIfPresent(date, (key, occupancyByTheme) -> {
+            Map<Long, BitSet> copied = new HashMap<>(occupancyByTheme);
+            copied.computeIfPresent(themeId, (id, occupancy) -> {
+                BitSet released = (BitSet) occupancy.clone();
+                released.clear(Math.toIntExact(timeId));
+
+                return released.isEmpty() ? null : released;
+            });
+
+            return copied.isEmpty() ? null : Map.copyOf(copied);
+        });
+    }
+
+    private boolean replaceIfUnchanged(
+            LocalDate date,
+            Map<Long, BitSet> observed,
+            Map<Long, BitSet> expected
+    ) {
+        if (observed == null) {
+            return occupancies.putIfAbsent(date, expected) == null;
+        }
+        if (expected == null) {
+            return occupancies.remove(date, observed);
+        }
+        return occupancies.replace(date, observed, expected);
+    }
+
+    private Map<LocalDate, Map<Long, BitSet>> toOccupancies(List<ReservationSlotDto> slots) {
+        Map<LocalDate, Map<Long, BitSet>> indexed = new HashMap<>();
+        slots.forEach(slot -> indexed.computeIfAbsent(slot.date(), date -> new HashMap<>())
+                .computeIfAbsent(slot.themeId(), themeId -> new BitSet())
+                .set(Math.toIntExact(slot.timeId())));
+
+        return indexed.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> Map.copyOf(entry.getValue())));
+    }
+
+    private Set<Long> toTimeIds(BitSet occupancy) {
+        return occupancy.stream()
+                .mapToObj(Long::valueOf)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+}
@@ -0,0 +1,48 @@
+package roomescape.infra;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import roomescape.application.TokenRevocationList;
+
+/**
+ * 이 인스턴스에서 폐기한 회원의 토큰을 즉시 거부한다. 재시작하거나 다른 인스턴스에서 바뀐 역할은
+ * 회원 역할 캐시의 TTL 안에 {@code AuthService}의 역할 확인으로 거부된다.
+ */
+@Component
+public class InMemoryTokenRevocationList implements TokenRevocationList {
+
+    private final Clock clock;
+    private final Cache<Long, Instant> revokedAts;
+
+    @Autowired
+    public InMemoryTokenRevocationList(@Value("${security.jwt.expiration-time}") long expirationTime) {
+        this(expirationTime, Clock.systemUTC());
+    }
+
+    InMemoryTokenRevocationList(long expirationTime, Clock clock) {
+        this.clock = clock;
+        // 폐기 시각 이전에 발급된 토큰은 만료 시간이 지나면 모두 만료되므로 그 뒤에는 기억할 필요가 없다.
+        this.revokedAts = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(expirationTime))
+                .build();
+    }
+
+    @Override
+    public void revoke(Long memberId) {
+        revokedAts.put(memberId, clock.instant());
+    }
+
+    // 폐기 시각보다 먼저 발급된 토큰만 폐기한다. 발급 시각은 밀리초 단위라서 폐기 직후 다시 로그인한 토큰은 사용할 수 있다.
+    @Override
+    public boolean isRevoked(Long memberId, Instant issuedAt) {
+        Instant revokedAt = revokedAts.getIfPresent(memberId);
+
+        return revokedAt != null && issuedAt.isBefore(revokedAt);
+    }
+}
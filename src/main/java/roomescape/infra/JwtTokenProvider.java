@@ -1,41 +1,74 @@
 package roomescape.infra;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
-import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.Jwts.SIG;
 import io.jsonwebtoken.security.Keys;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 import javax.crypto.SecretKey;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import roomescape.application.TokenPayload;
 import roomescape.application.TokenProvider;
+import roomescape.application.TokenRevocationList;
+import roomescape.domain.member.Role;
 import roomescape.exception.TokenException;
 
 @Component
 public class JwtTokenProvider implements TokenProvider {
 
+    private static final String EMAIL_CLAIM = "email";
+    private static final String NAME_CLAIM = "name";
+    private static final String ROLE_CLAIM = "role";
+    private static final String ISSUED_AT_MILLIS_CLAIM = "iat_ms";
+    private static final int VERIFIED_TOKEN_CACHE_SIZE = 10_000;
+
     private final SecretKey secretKey;
     private final long expirationTime;
+    private final TokenRevocationList tokenRevocationList;
+    private final JwtParser jwtParser;
+    private final Cache<String, Claims> verifiedTokens;
 
     public JwtTokenProvider(
             @Value("${security.jwt.secret-key}") String secretKey,
-            @Value("${security.jwt.expiration-time}") long expirationTime
+            @Value("${security.jwt.expiration-time}") long expirationTime,
+            TokenRevocationList tokenRevocationList
     ) {
         this.secretKey = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
         this.expirationTime = expirationTime;
+        this.tokenRevocationList = tokenRevocationList;
+        this.jwtParser = Jwts.parser()
+                .verifyWith(this.secretKey)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(VERIFIED_TOKEN_CACHE_SIZE)
+                .expireAfter(new UntilTokenExpiration())
+                .build();
     }
 
     @Override
-    public String createToken(String memberId) {
+    public String createToken(TokenPayload payload) {
         Date now = new Date();
         Date validity = new Date(now.getTime() + expirationTime);
 
         return Jwts.builder()
-                .subject(memberId)
+                .subject(payload.memberId().toString())
+                .claim(EMAIL_CLAIM, payload.email())
+                .claim(NAME_CLAIM, payload.name())
+                .claim(ROLE_CLAIM, payload.role().name())
+                .claim(ISSUED_AT_MILLIS_CLAIM, now.getTime())
                 .issuedAt(now)
                 .expiration(validity)
                 .signWith(secretKey, SIG.HS256)
@@ -43,11 +76,59 @@ public class JwtTokenProvider implements TokenProvider {
     }
 
     @Override
-    public Long getMemberId(String token) {
+    public TokenPayload getPayload(String token) {
         Claims claims = toClaims(token);
+        String email = claims.get(EMAIL_CLAIM, String.class);
+        String name = claims.get(NAME_CLAIM, String.class);
+        String role = claims.get(ROLE_CLAIM, String.class);
+
+        if (email == null || name == null || role == null) {
+            throw new TokenException("유효하지 않은 토큰입니다.");
+        }
+
+        return new TokenPayload(toMemberId(claims), email, name, toRole(role));
+    }
+
+    @Override
+    public Long getMemberId(String token) {
+        return toMemberId(toClaims(token));
+    }
 
-        String memberId = claims.getSubject();
-        return Long.parseLong(memberId);
+    private Long toMemberId(Claims claims) {
+        Long memberId = parseMemberId(claims);
+
+        if (tokenRevocationList.isRevoked(memberId, toIssuedAt(claims))) {
+            throw new TokenException("회원 정보가 변경되었습니다. 다시 로그인해주세요.");
+        }
+
+        return memberId;
+    }
+
+    // 표준 발급 시각(iat)은 초 단위라서, 폐기 직후 다시 발급한 토큰과 구분하도록 밀리초 단위 발급 시각을 함께 담는다.
+    private Instant toIssuedAt(Claims claims) {
+        Long issuedAtMillis = claims.get(ISSUED_AT_MILLIS_CLAIM, Long.class);
+        if (issuedAtMillis != null) {
+            return Instant.ofEpochMilli(issuedAtMillis);
+        }
+
+        Date issuedAt = claims.getIssuedAt();
+        return issuedAt == null ? Instant.EPOCH : issuedAt.toInstant();
+    }
+
+    private Long parseMemberId(Claims claims) {
+        try {
+            return Long.parseLong(claims.getSubject());
+        } catch (NumberFormatException e) {
+            throw new TokenException("유효하지 않은 토큰입니다.");
+        }
+    }
+
+    private Role toRole(String role) {
+        try {
+            return Role.valueOf(role);
+        } catch (IllegalArgumentException e) {
+            throw new TokenException("유효하지 않은 토큰입니다.");
+        }
     }
 
     private Claims toClaims(String token) {
@@ -55,10 +136,14 @@ public class JwtTokenProvider implements TokenProvider {
             throw new TokenException("토큰이 비어있습니다.");
         }
 
-        try {
-            Jws<Claims> claimsJws = getClaimsJws(token);
+        // 같은 토큰의 서명을 매 요청 다시 검증하지 않도록, 검증된 클레임을 토큰 만료 시각까지 캐시한다.
+        return verifiedTokens.get(digest(token), key -> verify(token));
+    }
 
-            return claimsJws.getPayload();
+    private Claims verify(String token) {
+        try {
+            return jwtParser.parseSignedClaims(token)
+                    .getPayload();
         } catch (ExpiredJwtException e) {
             throw new TokenException("만료된 토큰입니다.");
         } catch (JwtException e) {
@@ -66,10 +151,38 @@ public class JwtTokenProvider implements TokenProvider {
         }
     }
 
-    private Jws<Claims> getClaimsJws(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token);
+    private String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.UTF_8));
+
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class UntilTokenExpiration implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                return 0;
+            }
+
+            long remainingMillis = expiration.getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
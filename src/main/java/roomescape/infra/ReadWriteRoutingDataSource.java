@@ -0,0 +1,54 @@
+package roomescape.infra;
+
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica";
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    public ReadWriteRoutingDataSource(
+            DataSource primary,
+            DataSource replica,
+            ReadYourWritesTracker readYourWritesTracker
+    ) {
+        this.readYourWritesTracker = readYourWritesTracker;
+        setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            recordWriteOnCommit();
+            return PRIMARY;
+        }
+
+        // 같은 세션이 최근 커밋한 쓰기는 레플리카에 아직 반영되지 않았을 수 있으므로 프라이머리에서 읽는다.
+        if (readYourWritesTracker.hasRecentWrite()) {
+            return PRIMARY;
+        }
+
+        return REPLICA;
+    }
+
+    private void recordWriteOnCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readYourWritesTracker.recordWrite();
+            }
+        });
+    }
+}
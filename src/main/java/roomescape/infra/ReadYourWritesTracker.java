@@ -0,0 +1,47 @@
+package roomescape.infra;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+
+/**
+ * 세션별로 최근 커밋한 쓰기가 있는지 기억해, 그 세션의 읽기만 레플리카 지연 허용 시간 동안 프라이머리로 보낸다.
+ */
+public class ReadYourWritesTracker {
+
+    private final ThreadLocal<String> currentSession = new ThreadLocal<>();
+    private final Cache<String, Boolean> recentWriteSessions;
+
+    public ReadYourWritesTracker(Duration replicaLagTolerance, long maximumSessions) {
+        if (replicaLagTolerance.isNegative()) {
+            throw new IllegalArgumentException("레플리카 지연 허용 시간은 0 이상이어야 합니다.");
+        }
+
+        this.recentWriteSessions = Caffeine.newBuilder()
+                .expireAfterWrite(replicaLagTolerance)
+                .maximumSize(maximumSessions)
+                .build();
+    }
+
+    public void bind(String session) {
+        currentSession.set(session);
+    }
+
+    public void unbind() {
+        currentSession.remove();
+    }
+
+    public void recordWrite() {
+        String session = currentSession.get();
+
+        if (session != null) {
+            recentWriteSessions.put(session, Boolean.TRUE);
+        }
+    }
+
+    public boolean hasRecentWrite() {
+        String session = currentSession.get();
+
+        return session != null && recentWriteSessions.getIfPresent(session) != null;
+    }
+}
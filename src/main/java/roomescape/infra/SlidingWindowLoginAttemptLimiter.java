@@ -0,0 +1,72 @@
+package roomescape.infra;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Locale;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import roomescape.application.LoginAttemptLimiter;
+import roomescape.exception.TooManyRequestsException;
+
+@Component
+public class SlidingWindowLoginAttemptLimiter implements LoginAttemptLimiter {
+
+    public static final String METRIC_NAME = "reservation.login.attempts";
+    public static final String KEYS_METRIC_NAME = "reservation.login.throttle.keys";
+
+    private static final String MESSAGE = "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.";
+
+    private final SlidingWindowRateLimiter emailLimiter;
+    private final SlidingWindowRateLimiter ipLimiter;
+    private final Counter allowedCounter;
+    private final Counter emailThrottledCounter;
+    private final Counter ipThrottledCounter;
+
+    public SlidingWindowLoginAttemptLimiter(
+            @Value("${reservation.login-throttle.email-limit}") int emailLimit,
+            @Value("${reservation.login-throttle.ip-limit}") int ipLimit,
+            @Value("${reservation.login-throttle.window}") Duration window,
+            @Value("${reservation.login-throttle.stripe-count}") int stripeCount,
+            @Value("${reservation.login-throttle.max-keys}") int maxKeys,
+            Clock clock,
+            MeterRegistry meterRegistry
+    ) {
+        this.emailLimiter = new SlidingWindowRateLimiter(emailLimit, window, stripeCount, maxKeys, clock);
+        this.ipLimiter = new SlidingWindowRateLimiter(ipLimit, window, stripeCount, maxKeys, clock);
+        this.allowedCounter = Counter.builder(METRIC_NAME)
+                .tag("result", "allowed")
+                .register(meterRegistry);
+        this.emailThrottledCounter = Counter.builder(METRIC_NAME)
+                .tag("result", "throttled_email")
+                .register(meterRegistry);
+        this.ipThrottledCounter = Counter.builder(METRIC_NAME)
+                .tag("result", "throttled_ip")
+                .register(meterRegistry);
+
+        Gauge.builder(KEYS_METRIC_NAME, emailLimiter, SlidingWindowRateLimiter::size)
+                .tag("key", "email")
+                .register(meterRegistry);
+        Gauge.builder(KEYS_METRIC_NAME, ipLimiter, SlidingWindowRateLimiter::size)
+                .tag("key", "ip")
+                .register(meterRegistry);
+    }
+
+    // 한 IP에서 여러 계정을 시도하는 경우와 여러 IP에서 한 계정을 시도하는 경우를 모두 막도록 두 기준을 함께 적용한다.
+    @Override
+    public void acquire(String email, String clientIp) {
+        if (!ipLimiter.tryAcquire(clientIp)) {
+            ipThrottledCounter.increment();
+            throw new TooManyRequestsException(MESSAGE, ipLimiter.untilNextWindow());
+        }
+
+        if (!emailLimiter.tryAcquire(email.toLowerCase(Locale.ROOT))) {
+            emailThrottledCounter.increment();
+            throw new TooManyRequestsException(MESSAGE, emailLimiter.untilNextWindow());
+        }
+
+        allowedCounter.increment();
+    }
+}
@@ -0,0 +1,135 @@
+package roomescape.infra;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.IntStream;
+
+public class SlidingWindowRateLimiter {
+
+    private final int limit;
+    private final long windowMillis;
+    private final Clock clock;
+    private final Stripe[] stripes;
+
+    public SlidingWindowRateLimiter(int limit, Duration window, int stripeCount, int maxKeys, Clock clock) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("허용 횟수는 1 이상이어야 합니다.");
+        }
+        if (window.toMillis() < 1) {
+            throw new IllegalArgumentException("제한 구간은 1ms 이상이어야 합니다.");
+        }
+        if (stripeCount < 1 || maxKeys < stripeCount) {
+            throw new IllegalArgumentException("최대 키 개수는 스트라이프 개수 이상이어야 합니다.");
+        }
+
+        this.limit = limit;
+        this.windowMillis = window.toMillis();
+        this.clock = clock;
+        this.stripes = IntStream.range(0, stripeCount)
+                .mapToObj(i -> new Stripe(maxKeys / stripeCount))
+                .toArray(Stripe[]::new);
+    }
+
+    public boolean tryAcquire(String key) {
+        long now = clock.millis();
+        long windowStart = now - Math.floorMod(now, windowMillis);
+        Stripe stripe = stripeOf(key);
+
+        stripe.lock.lock();
+        try {
+            stripe.evictIdle(windowStart - windowMillis);
+            Window window = stripe.windows.computeIfAbsent(key, k -> new Window(windowStart));
+            window.slideTo(windowStart, windowMillis);
+
+            if (window.estimate(now, windowMillis) >= limit) {
+                return false;
+            }
+            window.currentCount++;
+            return true;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    public Duration untilNextWindow() {
+        long now = clock.millis();
+
+        return Duration.ofMillis(windowMillis - Math.floorMod(now, windowMillis));
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                size += stripe.windows.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    private Stripe stripeOf(String key) {
+        int hash = key.hashCode();
+        int spread = hash ^ (hash >>> 16);
+
+        return stripes[Math.floorMod(spread, stripes.length)];
+    }
+
+    private static class Stripe {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<String, Window> windows;
+
+        // 접근 순서로 정렬해 가장 오래 쓰이지 않은 키부터 내보내므로 키가 아무리 많아도 메모리는 최대 개수로 제한된다.
+        Stripe(int capacity) {
+            this.windows = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Window> eldest) {
+                    return size() > capacity;
+                }
+            };
+        }
+
+        // 직전 구간보다 오래된 키는 추정치에 영향을 주지 않으므로, 오래된 순으로 훑다가 최근 키를 만나면 멈춘다.
+        void evictIdle(long idleBefore) {
+            Iterator<Window> iterator = windows.values().iterator();
+            while (iterator.hasNext() && iterator.next().currentStart < idleBefore) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private static class Window {
+
+        private long currentStart;
+        private int currentCount;
+        private int previousCount;
+
+        Window(long currentStart) {
+            this.currentStart = currentStart;
+        }
+
+        void slideTo(long windowStart, long windowMillis) {
+            if (windowStart == currentStart) {
+                return;
+            }
+
+            previousCount = windowStart - currentStart == windowMillis ? currentCount : 0;
+            currentCount = 0;
+            currentStart = windowStart;
+        }
+
+        // 직전 구간의 횟수를 현재 구간과 겹치는 비율만큼만 반영해 구간 경계에서 요청이 몰려도 허용량을 넘지 않게 한다.
+        double estimate(long now, long windowMillis) {
+            double previousWeight = 1 - (double) (now - currentStart) / windowMillis;
+
+            return previousCount * previousWeight + currentCount;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package roomescape.infra;
+
+import java.util.Objects;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.IntStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import roomescape.application.ReservationSlotLock;
+import roomescape.domain.reservation.detail.ReservationDetail;
+
+@Component
+public class StripedReservationSlotLock implements ReservationSlotLock {
+
+    private final Lock[] stripes;
+
+    public StripedReservationSlotLock(@Value("${reservation.lock.stripe-count}") int stripeCount) {
+        if (stripeCount < 1) {
+            throw new IllegalArgumentException("락 스트라이프 개수는 1 이상이어야 합니다.");
+        }
+
+        this.stripes = IntStream.range(0, stripeCount)
+                .mapToObj(i -> new ReentrantLock())
+                .toArray(Lock[]::new);
+    }
+
+    @Override
+    public void lockForTransaction(ReservationDetail detail) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("예약 슬롯 락은 트랜잭션 안에서만 획득할 수 있습니다.");
+        }
+
+        Lock lock = stripeOf(detail);
+        lock.lock();
+
+        // 커밋 이전에 락을 풀면 다른 요청이 아직 커밋되지 않은 예약을 보지 못하므로 트랜잭션 종료 시점에 해제한다.
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                lock.unlock();
+            }
+        });
+    }
+
+    private Lock stripeOf(ReservationDetail detail) {
+        int hash = Objects.hash(detail.getDate(), detail.getTime().getId(), detail.getTheme().getId());
+        int spread = hash ^ (hash >>> 16);
+
+        return stripes[Math.floorMod(spread, stripes.length)];
+    }
+}
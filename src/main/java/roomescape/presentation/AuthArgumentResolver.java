@@ -8,8 +8,7 @@ import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
 import roomescape.application.AuthService;
 import roomescape.application.AuthorizationExtractor;
-import roomescape.application.MemberService;
-import roomescape.application.dto.response.MemberResponse;
+import roomescape.application.TokenPayload;
 import roomescape.exception.UnauthorizedException;
 import roomescape.presentation.dto.Accessor;
 
@@ -17,16 +16,10 @@ import roomescape.presentation.dto.Accessor;
 public class AuthArgumentResolver implements HandlerMethodArgumentResolver {
 
     private final AuthService authService;
-    private final MemberService memberService;
     private final AuthorizationExtractor<String> authorizationExtractor;
 
-    public AuthArgumentResolver(
-            AuthService authService,
-            MemberService memberService,
-            AuthorizationExtractor<String> authorizationExtractor
-    ) {
+    public AuthArgumentResolver(AuthService authService, AuthorizationExtractor<String> authorizationExtractor) {
         this.authService = authService;
-        this.memberService = memberService;
         this.authorizationExtractor = authorizationExtractor;
     }
 
@@ -45,14 +38,13 @@ public class AuthArgumentResolver implements HandlerMethodArgumentResolver {
         String token = authorizationExtractor.extract(webRequest)
                 .orElseThrow(UnauthorizedException::new);
 
-        Long id = authService.getMemberIdByToken(token);
-        MemberResponse memberResponse = memberService.getById(id);
+        TokenPayload payload = authService.getPayloadByToken(token);
 
         return new Accessor(
-                memberResponse.id(),
-                memberResponse.name(),
-                memberResponse.email(),
-                memberResponse.role()
+                payload.memberId(),
+                payload.email(),
+                payload.name(),
+                payload.role()
         );
     }
 }
@@ -6,8 +6,6 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
 import roomescape.application.AuthService;
 import roomescape.application.AuthorizationExtractor;
-import roomescape.application.MemberService;
-import roomescape.application.dto.response.MemberResponse;
 import roomescape.domain.member.Role;
 import roomescape.exception.AccessDeniedException;
 import roomescape.exception.UnauthorizedException;
@@ -16,16 +14,10 @@ import roomescape.exception.UnauthorizedException;
 public class AuthInterceptor implements HandlerInterceptor {
 
     private final AuthService authService;
-    private final MemberService memberService;
     private final AuthorizationExtractor<String> authorizationExtractor;
 
-    public AuthInterceptor(
-            AuthService authService,
-            MemberService memberService,
-            AuthorizationExtractor<String> authorizationExtractor
-    ) {
+    public AuthInterceptor(AuthService authService, AuthorizationExtractor<String> authorizationExtractor) {
         this.authService = authService;
-        this.memberService = memberService;
         this.authorizationExtractor = authorizationExtractor;
     }
 
@@ -38,10 +30,11 @@ public class AuthInterceptor implements HandlerInterceptor {
         String token = authorizationExtractor.extract(request)
                 .orElseThrow(UnauthorizedException::new);
 
-        Long memberId = authService.getMemberIdByToken(token);
-        MemberResponse memberResponse = memberService.getById(memberId);
+        // 역할 클레임만 믿지 않고 캐시된 회원 역할과 비교해, 다른 인스턴스에서 강등된 토큰도 캐시 TTL 안에 거부한다.
+        Role role = authService.getPayloadByToken(token)
+                .role();
 
-        if (memberResponse.role() != Role.ADMIN) {
+        if (role != Role.ADMIN) {
             throw new AccessDeniedException("어드민 권한이 필요합니다.");
         }
 
@@ -0,0 +1,55 @@
+package roomescape.presentation;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ConditionalResponses {
+
+    private static final String WILDCARD = "*";
+    private static final String WEAK_PREFIX = "W/";
+
+    private final CacheControl cacheControl;
+
+    // 브라우저는 매번 ETag로 재검증하고, CDN 같은 공유 캐시는 짧은 시간 동안만 재검증 없이 응답하게 한다.
+    public ConditionalResponses(@Value("${reservation.http-cache.shared-max-age}") Duration sharedMaxAge) {
+        this.cacheControl = CacheControl.maxAge(Duration.ZERO)
+                .mustRevalidate()
+                .cachePublic()
+                .sMaxAge(sharedMaxAge);
+    }
+
+    // 클라이언트의 ETag가 현재 버전과 같으면 본문을 만들지 않고 304를 반환하므로 DB 조회도 일어나지 않는다.
+    public <T> ResponseEntity<T> ok(String ifNoneMatch, String tag, Supplier<T> body) {
+        String eTag = "\"" + tag + "\"";
+
+        if (matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(cacheControl)
+                .body(body.get());
+    }
+
+    private boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .map(candidate -> candidate.startsWith(WEAK_PREFIX) ? candidate.substring(WEAK_PREFIX.length()) : candidate)
+                .anyMatch(candidate -> WILDCARD.equals(candidate) || eTag.equals(candidate));
+    }
+}
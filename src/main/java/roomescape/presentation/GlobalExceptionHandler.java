@@ -1,5 +1,6 @@
 package roomescape.presentation;
 
+import java.time.Duration;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -19,12 +20,16 @@ import roomescape.domain.exception.DomainValidationException;
 import roomescape.exception.AccessDeniedException;
 import roomescape.exception.BadRequestException;
 import roomescape.exception.ErrorResponse;
+import roomescape.exception.ServiceUnavailableException;
 import roomescape.exception.TokenException;
+import roomescape.exception.TooManyRequestsException;
 import roomescape.exception.UnauthorizedException;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
 
+    private static final String RETRY_AFTER_SECONDS = "1";
+
     private final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
     @Override
@@ -123,6 +128,26 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
                 .body(new ErrorResponse(e.getMessage()));
     }
 
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ErrorResponse> handleTooManyRequestsException(TooManyRequestsException e) {
+        log.warn("[TooManyRequestsException] {}", e.getMessage());
+
+        return ResponseEntity
+                .status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, toRetryAfterSeconds(e.getRetryAfter()))
+                .body(new ErrorResponse(e.getMessage()));
+    }
+
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleServiceUnavailableException(ServiceUnavailableException e) {
+        log.warn("[ServiceUnavailableException] {}", e.getMessage());
+
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .body(new ErrorResponse(e.getMessage()));
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleException(Exception e) {
         log.error("[Exception]", e);
@@ -131,4 +156,11 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
                 .status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(new ErrorResponse("서버 내부 에러가 발생했습니다."));
     }
+
+    // Retry-After 는 초 단위 정수이므로 남은 시간을 올림해 클라이언트가 너무 일찍 재시도하지 않게 한다.
+    private String toRetryAfterSeconds(Duration retryAfter) {
+        long seconds = Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+
+        return String.valueOf(seconds);
+    }
 }
@@ -0,0 +1,46 @@
+package roomescape.presentation;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Optional;
+import org.springframework.web.filter.OncePerRequestFilter;
+import roomescape.application.AuthorizationExtractor;
+import roomescape.infra.ReadYourWritesTracker;
+
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final AuthorizationExtractor<String> authorizationExtractor;
+
+    public ReadYourWritesFilter(
+            ReadYourWritesTracker readYourWritesTracker,
+            AuthorizationExtractor<String> authorizationExtractor
+    ) {
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.authorizationExtractor = authorizationExtractor;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        Optional<String> session = authorizationExtractor.extract(request);
+
+        if (session.isEmpty()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        readYourWritesTracker.bind(session.get());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            readYourWritesTracker.unbind();
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package roomescape.presentation.api;
 
 import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
@@ -9,7 +10,6 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 import roomescape.application.AuthService;
-import roomescape.application.MemberService;
 import roomescape.application.dto.request.LoginRequest;
 import roomescape.application.dto.response.MemberResponse;
 import roomescape.presentation.Auth;
@@ -22,20 +22,19 @@ public class AuthController {
     private static final int COOKIE_MAX_AGE_ONE_HOUR = 60 * 60;
 
     private final AuthService authService;
-    private final MemberService memberService;
 
-    public AuthController(AuthService authService, MemberService memberService) {
+    public AuthController(AuthService authService) {
         this.authService = authService;
-        this.memberService = memberService;
     }
 
     @PostMapping("/login")
     public ResponseEntity<MemberResponse> login(
             @RequestBody @Valid LoginRequest loginRequest,
+            HttpServletRequest request,
             HttpServletResponse response
     ) {
-        MemberResponse memberResponse = authService.validatePassword(loginRequest);
-        String token = authService.createToken(memberResponse.id());
+        MemberResponse memberResponse = authService.validatePassword(loginRequest, request.getRemoteAddr());
+        String token = authService.createToken(memberResponse);
 
         setTokenCookie(response, token);
 
@@ -44,7 +43,12 @@ public class AuthController {
 
     @GetMapping("/login/check")
     public ResponseEntity<MemberResponse> checkLogin(@Auth Accessor accessor) {
-        MemberResponse memberResponse = memberService.getById(accessor.id());
+        MemberResponse memberResponse = new MemberResponse(
+                accessor.id(),
+                accessor.email(),
+                accessor.name(),
+                accessor.role()
+        );
 
         return ResponseEntity.ok(memberResponse);
     }
@@ -2,30 +2,47 @@ package roomescape.presentation.api;
 
 import java.time.LocalDate;
 import java.util.List;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import roomescape.application.CatalogVersion;
 import roomescape.application.ReservationTimeService;
 import roomescape.application.dto.response.AvailableReservationTimeResponse;
 import roomescape.application.dto.response.ReservationTimeResponse;
+import roomescape.application.dto.response.ThemeAvailabilityResponse;
+import roomescape.presentation.ConditionalResponses;
 
 @RestController
 @RequestMapping("/times")
 public class ReservationTimeController {
 
     private final ReservationTimeService reservationTimeService;
+    private final CatalogVersion catalogVersion;
+    private final ConditionalResponses conditionalResponses;
 
-    public ReservationTimeController(ReservationTimeService reservationTimeService) {
+    public ReservationTimeController(
+            ReservationTimeService reservationTimeService,
+            CatalogVersion catalogVersion,
+            ConditionalResponses conditionalResponses
+    ) {
         this.reservationTimeService = reservationTimeService;
+        this.catalogVersion = catalogVersion;
+        this.conditionalResponses = conditionalResponses;
     }
 
     @GetMapping
-    public ResponseEntity<List<ReservationTimeResponse>> getAllReservationTimes() {
-        List<ReservationTimeResponse> reservationTimeResponses = reservationTimeService.getAllReservationTimes();
-
-        return ResponseEntity.ok(reservationTimeResponses);
+    public ResponseEntity<List<ReservationTimeResponse>> getAllReservationTimes(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        return conditionalResponses.ok(
+                ifNoneMatch,
+                catalogVersion.reservationTimesTag(),
+                reservationTimeService::getAllReservationTimes
+        );
     }
 
     @GetMapping("/available")
@@ -38,4 +55,11 @@ public class ReservationTimeController {
 
         return ResponseEntity.ok(availableReservationTimeResponses);
     }
+
+    @GetMapping("/available/grid")
+    public ResponseEntity<List<ThemeAvailabilityResponse>> getAvailabilityGrid(@RequestParam LocalDate date) {
+        List<ThemeAvailabilityResponse> themeAvailabilityResponses = reservationTimeService.getAvailabilityGrid(date);
+
+        return ResponseEntity.ok(themeAvailabilityResponses);
+    }
 }
@@ -3,14 +3,18 @@ package roomescape.presentation.api;
 import java.time.Clock;
 import java.time.LocalDate;
 import java.util.List;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import roomescape.application.CatalogVersion;
 import roomescape.application.ThemeService;
 import roomescape.application.dto.response.ThemeResponse;
 import roomescape.exception.BadRequestException;
+import roomescape.presentation.ConditionalResponses;
 
 @RestController
 @RequestMapping("/themes")
@@ -22,25 +26,35 @@ public class ThemeController {
     public static final int POPULAR_THEME_END_DATE_OFFSET = 1;
 
     private final ThemeService themeService;
+    private final CatalogVersion catalogVersion;
+    private final ConditionalResponses conditionalResponses;
     private final Clock clock;
 
-    public ThemeController(ThemeService themeService, Clock clock) {
+    public ThemeController(
+            ThemeService themeService,
+            CatalogVersion catalogVersion,
+            ConditionalResponses conditionalResponses,
+            Clock clock
+    ) {
         this.themeService = themeService;
+        this.catalogVersion = catalogVersion;
+        this.conditionalResponses = conditionalResponses;
         this.clock = clock;
     }
 
     @GetMapping
-    public ResponseEntity<List<ThemeResponse>> getAllThemes() {
-        List<ThemeResponse> themeResponses = themeService.getAllThemes();
-
-        return ResponseEntity.ok(themeResponses);
+    public ResponseEntity<List<ThemeResponse>> getAllThemes(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        return conditionalResponses.ok(ifNoneMatch, catalogVersion.themesTag(), themeService::getAllThemes);
     }
 
     @GetMapping("/popular")
     public ResponseEntity<List<ThemeResponse>> getPopularThemes(
             @RequestParam(required = false) LocalDate startDate,
             @RequestParam(required = false) LocalDate endDate,
-            @RequestParam(defaultValue = POPULAR_THEME_LIMIT) int limit
+            @RequestParam(defaultValue = POPULAR_THEME_LIMIT) int limit,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
         if (endDate == null) {
             endDate = LocalDate.now(clock).minusDays(POPULAR_THEME_END_DATE_OFFSET);
@@ -58,8 +72,13 @@ public class ThemeController {
             throw new BadRequestException("시작 날짜는 종료 날짜보다 이전이어야 합니다.");
         }
 
-        List<ThemeResponse> themeResponses = themeService.getPopularThemes(startDate, endDate, limit);
+        LocalDate from = startDate;
+        LocalDate to = endDate;
 
-        return ResponseEntity.ok(themeResponses);
+        return conditionalResponses.ok(
+                ifNoneMatch,
+                catalogVersion.popularThemesTag(from, to, limit),
+                () -> themeService.getPopularThemes(from, to, limit)
+        );
     }
 }
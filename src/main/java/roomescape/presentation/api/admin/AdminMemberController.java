@@ -1,11 +1,16 @@
 package roomescape.presentation.api.admin;
 
+import jakarta.validation.Valid;
 import java.util.List;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import roomescape.application.MemberService;
+import roomescape.application.dto.request.MemberRoleRequest;
 import roomescape.application.dto.response.MemberResponse;
 
 @RestController
@@ -24,4 +29,14 @@ public class AdminMemberController {
 
         return ResponseEntity.ok(memberResponses);
     }
+
+    @PatchMapping("/{id}/role")
+    public ResponseEntity<MemberResponse> changeRole(
+            @PathVariable Long id,
+            @RequestBody @Valid MemberRoleRequest request
+    ) {
+        MemberResponse memberResponse = memberService.changeRole(id, request);
+
+        return ResponseEntity.ok(memberResponse);
+    }
 }
@@ -14,20 +14,35 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import roomescape.application.ReservationBatchService;
 import roomescape.application.ReservationService;
 import roomescape.application.dto.request.ReservationRequest;
+import roomescape.application.dto.request.ReservationSearchRequest;
+import roomescape.application.dto.response.ReservationBatchResponse;
 import roomescape.application.dto.response.ReservationResponse;
+import roomescape.exception.BadRequestException;
+import roomescape.presentation.dto.request.AdminReservationBatchWebRequest;
 import roomescape.presentation.dto.request.AdminReservationWebRequest;
 
 @RestController
 @RequestMapping("/admin/reservations")
 public class AdminReservationController {
 
+    private static final String DEFAULT_PAGE_SIZE = "100";
+    private static final int MIN_PAGE_SIZE = 1;
+    private static final int MAX_PAGE_SIZE = 500;
+
     private final ReservationService reservationService;
+    private final ReservationBatchService reservationBatchService;
     private final Clock clock;
 
-    public AdminReservationController(ReservationService reservationService, Clock clock) {
+    public AdminReservationController(
+            ReservationService reservationService,
+            ReservationBatchService reservationBatchService,
+            Clock clock
+    ) {
         this.reservationService = reservationService;
+        this.reservationBatchService = reservationBatchService;
         this.clock = clock;
     }
 
@@ -36,10 +51,31 @@ public class AdminReservationController {
             @RequestParam(required = false) Long memberId,
             @RequestParam(required = false) Long themeId,
             @RequestParam(required = false) LocalDate dateFrom,
-            @RequestParam(required = false) LocalDate dateTo
+            @RequestParam(required = false) LocalDate dateTo,
+            @RequestParam(required = false) LocalDate lastDate,
+            @RequestParam(required = false) Long lastId,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int size
     ) {
-        List<ReservationResponse> reservationResponses = reservationService
-                .getReservationsByConditions(memberId, themeId, dateFrom, dateTo);
+        if (size < MIN_PAGE_SIZE || size > MAX_PAGE_SIZE) {
+            String message = String.format("size는 %d 이상 %d 이하여야 합니다.", MIN_PAGE_SIZE, MAX_PAGE_SIZE);
+
+            throw new BadRequestException(message);
+        }
+
+        if ((lastDate == null) != (lastId == null)) {
+            throw new BadRequestException("lastDate와 lastId는 함께 전달되어야 합니다.");
+        }
+
+        ReservationSearchRequest searchRequest = new ReservationSearchRequest(
+                memberId,
+                themeId,
+                dateFrom,
+                dateTo,
+                lastDate,
+                lastId,
+                size
+        );
+        List<ReservationResponse> reservationResponses = reservationService.getReservationsByConditions(searchRequest);
 
         return ResponseEntity.ok(reservationResponses);
     }
@@ -55,6 +91,16 @@ public class AdminReservationController {
                 .body(reservationResponse);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<ReservationBatchResponse> addAdminReservations(
+            @RequestBody @Valid AdminReservationBatchWebRequest webRequest
+    ) {
+        List<ReservationRequest> reservationRequests = webRequest.toReservationRequests(clock);
+        ReservationBatchResponse reservationBatchResponse = reservationBatchService.addReservations(reservationRequests);
+
+        return ResponseEntity.ok(reservationBatchResponse);
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteReservationById(@PathVariable Long id) {
         reservationService.deleteReservationById(id);
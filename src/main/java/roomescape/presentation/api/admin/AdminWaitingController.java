@@ -1,6 +1,7 @@
 package roomescape.presentation.api.admin;
 
 import java.time.Clock;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import org.springframework.http.ResponseEntity;
@@ -9,15 +10,22 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import roomescape.application.WaitingService;
+import roomescape.application.dto.request.WaitingSearchRequest;
 import roomescape.application.dto.response.ReservationResponse;
 import roomescape.application.dto.response.WaitingResponse;
+import roomescape.exception.BadRequestException;
 
 @RestController
 @RequestMapping("/admin/waitings")
 public class AdminWaitingController {
 
+    private static final String DEFAULT_PAGE_SIZE = "100";
+    private static final int MIN_PAGE_SIZE = 1;
+    private static final int MAX_PAGE_SIZE = 500;
+
     private final WaitingService waitingService;
     private final Clock clock;
 
@@ -27,8 +35,20 @@ public class AdminWaitingController {
     }
 
     @GetMapping
-    public ResponseEntity<List<WaitingResponse>> getReservationWaitings() {
-        List<WaitingResponse> waitingResponses = waitingService.getWaitings();
+    public ResponseEntity<List<WaitingResponse>> getReservationWaitings(
+            @RequestParam(required = false) LocalDate dateFrom,
+            @RequestParam(required = false) LocalDate dateTo,
+            @RequestParam(required = false) Long lastId,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int size
+    ) {
+        if (size < MIN_PAGE_SIZE || size > MAX_PAGE_SIZE) {
+            String message = String.format("size는 %d 이상 %d 이하여야 합니다.", MIN_PAGE_SIZE, MAX_PAGE_SIZE);
+
+            throw new BadRequestException(message);
+        }
+
+        WaitingSearchRequest searchRequest = new WaitingSearchRequest(dateFrom, dateTo, lastId, size);
+        List<WaitingResponse> waitingResponses = waitingService.getWaitings(searchRequest);
 
         return ResponseEntity.ok(waitingResponses);
     }
@@ -0,0 +1,21 @@
+package roomescape.presentation.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.time.Clock;
+import java.util.List;
+import roomescape.application.dto.request.ReservationRequest;
+
+public record AdminReservationBatchWebRequest(
+        @NotEmpty(message = "예약 목록은 비어 있을 수 없습니다.")
+        @Size(max = 500, message = "한 번에 최대 500개의 예약을 생성할 수 있습니다.")
+        List<@Valid AdminReservationWebRequest> reservations
+) {
+
+    public List<ReservationRequest> toReservationRequests(Clock clock) {
+        return reservations.stream()
+                .map(reservation -> reservation.toReservationRequest(clock))
+                .toList();
+    }
+}
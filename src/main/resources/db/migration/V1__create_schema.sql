@@ -0,0 +1,86 @@
+CREATE SEQUENCE member_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE theme_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE reservation_time_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE reservation_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE waiting_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE theme_daily_stats_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE member
+(
+    id       BIGINT       NOT NULL,
+    email    VARCHAR(255) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    name     VARCHAR(30)  NOT NULL,
+    role     VARCHAR(20)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_member_email UNIQUE (email)
+);
+
+CREATE TABLE theme
+(
+    id          BIGINT       NOT NULL,
+    name        VARCHAR(30)  NOT NULL,
+    description VARCHAR(255) NOT NULL,
+    thumbnail   VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_theme_name ON theme (name);
+
+CREATE TABLE reservation_time
+(
+    id       BIGINT NOT NULL,
+    start_at TIME   NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_reservation_time_start_at ON reservation_time (start_at);
+
+CREATE TABLE reservation
+(
+    id        BIGINT NOT NULL,
+    date      DATE   NOT NULL,
+    time_id   BIGINT NOT NULL,
+    theme_id  BIGINT NOT NULL,
+    member_id BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_reservation_detail UNIQUE (date, theme_id, time_id),
+    CONSTRAINT fk_reservation_time FOREIGN KEY (time_id) REFERENCES reservation_time (id),
+    CONSTRAINT fk_reservation_theme FOREIGN KEY (theme_id) REFERENCES theme (id),
+    CONSTRAINT fk_reservation_member FOREIGN KEY (member_id) REFERENCES member (id)
+);
+
+CREATE INDEX idx_reservation_date_id ON reservation (date, id);
+CREATE INDEX idx_reservation_member_date_id ON reservation (member_id, date, id);
+CREATE INDEX idx_reservation_theme_date_id ON reservation (theme_id, date, id);
+CREATE INDEX idx_reservation_time_id ON reservation (time_id);
+
+CREATE TABLE waiting
+(
+    id        BIGINT NOT NULL,
+    date      DATE   NOT NULL,
+    time_id   BIGINT NOT NULL,
+    theme_id  BIGINT NOT NULL,
+    member_id BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_waiting_time FOREIGN KEY (time_id) REFERENCES reservation_time (id),
+    CONSTRAINT fk_waiting_theme FOREIGN KEY (theme_id) REFERENCES theme (id),
+    CONSTRAINT fk_waiting_member FOREIGN KEY (member_id) REFERENCES member (id)
+);
+
+CREATE INDEX idx_waiting_detail_id ON waiting (date, time_id, theme_id, id);
+CREATE INDEX idx_waiting_member_id ON waiting (member_id, id);
+CREATE INDEX idx_waiting_time_id ON waiting (time_id);
+CREATE INDEX idx_waiting_theme_id ON waiting (theme_id);
+
+CREATE TABLE theme_daily_stats
+(
+    id                BIGINT NOT NULL,
+    theme_id          BIGINT NOT NULL,
+    date              DATE   NOT NULL,
+    reservation_count BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_theme_daily_stats UNIQUE (theme_id, date)
+);
+
+CREATE INDEX idx_theme_daily_stats_date_theme ON theme_daily_stats (date, theme_id, reservation_count);
@@ -1,4 +1,7 @@
+const PAGE_SIZE = 100;
 let isEditing = false;
+let searchParams = new URLSearchParams();
+let lastReservation = null;
 const timesOptions = [];
 const themesOptions = [];
 const membersOptions = [];
@@ -6,19 +9,41 @@ const membersOptions = [];
 document.addEventListener('DOMContentLoaded', () => {
   document.getElementById('add-button').addEventListener('click', addInputRow);
   document.getElementById('filter-form').addEventListener('submit', applyFilter);
+  document.getElementById('more-button').addEventListener('click', loadMore);
 
-  requestRead('/admin/reservations')
-      .then(render)
-      .catch(error => console.error('Error fetching reservations:', error));
+  loadReservations(false);
 
   fetchTimes();
   fetchThemes();
   fetchMembers();
 });
 
-function render(data) {
+function loadReservations(append) {
+  const params = new URLSearchParams(searchParams);
+  params.append('size', PAGE_SIZE);
+  if (append && lastReservation) {
+    params.append('lastDate', lastReservation.date);
+    params.append('lastId', lastReservation.id);
+  }
+
+  requestRead(`/admin/reservations?${params.toString()}`)
+      .then(data => render(data, append))
+      .catch(error => console.error('Error fetching reservations:', error));
+}
+
+function loadMore() {
+  loadReservations(true);
+}
+
+function render(data, append) {
   const tableBody = document.getElementById('table-body');
-  tableBody.innerHTML = '';
+  if (!append) {
+    tableBody.innerHTML = '';
+  }
+  if (data.length > 0) {
+    lastReservation = data[data.length - 1];
+  }
+  document.getElementById('more-button').classList.toggle('d-none', data.length < PAGE_SIZE);
 
   data.forEach(item => {
     const row = tableBody.insertRow();
@@ -195,21 +220,9 @@ function applyFilter(event) {
   if (dateFrom) params.append('dateFrom', dateFrom);
   if (dateTo) params.append('dateTo', dateTo);
 
-  let url = `/admin/reservations`;
-  if (params.toString()) {
-    url += `?${params.toString()}`;
-  }
-
-  fetch(url, { // 예약 검색 API 호출
-    method: 'GET',
-    headers: {
-      'Content-Type': 'application/json'
-    },
-  }).then(response => {
-    if (response.status === 200) return response.json();
-    throw new Error('Read failed');
-  }).then(render)
-      .catch(error => console.error("Error fetching available times:", error));
+  searchParams = params;
+  lastReservation = null;
+  loadReservations(false);
 }
 
 function requestCreate(reservation) {
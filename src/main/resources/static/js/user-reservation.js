@@ -1,3 +1,5 @@
+let availabilityGrid = null;
+
 document.addEventListener('DOMContentLoaded', () => {
   requestRead('/themes')
       .then(renderTheme)
@@ -59,10 +61,13 @@ function checkDate() {
     }
     const timeSlots = document.getElementById('time-slots');
     timeSlots.innerHTML = '';
+    availabilityGrid = null;
 
     requestRead('/themes')
         .then(renderTheme)
         .catch(error => console.error('Error fetching times:', error));
+
+    fetchAvailabilityGrid(selectedDate);
   }
 }
 
@@ -71,10 +76,24 @@ function checkDateAndTheme() {
   const selectedThemeElement = document.querySelector('.theme-slot.active');
   if (selectedDate && selectedThemeElement) {
     const selectedThemeId = selectedThemeElement.getAttribute('data-theme-id');
+    const themeAvailability = availabilityGrid?.find(theme => String(theme.themeId) === selectedThemeId);
+    if (themeAvailability) {
+      renderAvailableTimes(themeAvailability.times);
+      return;
+    }
     fetchAvailableTimes(selectedDate, selectedThemeId);
   }
 }
 
+function fetchAvailabilityGrid(date) {
+  requestRead(`/times/available/grid?date=${date}`)
+      .then(grid => {
+        availabilityGrid = grid;
+        checkDateAndTheme();
+      })
+      .catch(error => console.error("Error fetching availability grid:", error));
+}
+
 function fetchAvailableTimes(date, themeId) {
   fetch(`/times/available?date=${date}&themeId=${themeId}`, {
     method: 'GET',
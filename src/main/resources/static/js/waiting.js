@@ -1,20 +1,38 @@
+const PAGE_SIZE = 100;
+let lastWaitingId = null;
+
 document.addEventListener('DOMContentLoaded', () => {
+    document.getElementById('more-button').addEventListener('click', loadWaitings);
+
+    loadWaitings();
+});
+
+function loadWaitings() {
     /*
     TODO: [4단계] 예약 대기 관리 기능
           예약 대기 목록 조회 endpoint 설정
      */
-    fetch('/admin/waitings')
+    const params = new URLSearchParams();
+    params.append('size', PAGE_SIZE);
+    if (lastWaitingId !== null) {
+        params.append('lastId', lastWaitingId);
+    }
+
+    fetch(`/admin/waitings?${params.toString()}`)
         .then(response => {
             if (response.status === 200) return response.json();
             throw new Error('Read failed');
         })
         .then(render)
         .catch(error => console.error('Error fetching reservations:', error));
-});
+}
 
 function render(data) {
     const tableBody = document.getElementById('table-body');
-    tableBody.innerHTML = '';
+    if (data.length > 0) {
+        lastWaitingId = data[data.length - 1].id;
+    }
+    document.getElementById('more-button').classList.toggle('d-none', data.length < PAGE_SIZE);
 
     data.forEach(item => {
         const row = tableBody.insertRow();
@@ -0,0 +1,67 @@
+package roomescape.application;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import roomescape.domain.member.Member;
+import roomescape.domain.member.MemberRepository;
+import roomescape.domain.member.Role;
+import roomescape.support.performance.ConcurrentLoadRunner;
+import roomescape.support.performance.LoadResult;
+
+@Tag("performance")
+class AuthResolutionBenchmarkTest extends BaseServiceTest {
+
+    private static final int THREAD_COUNT = 8;
+    private static final int MEMBER_COUNT = 100;
+    private static final int REQUEST_COUNT = 20_000;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private TokenProvider tokenProvider;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("토큰 클레임으로 인증 정보를 만들면 매 요청 회원을 조회할 때보다 처리량이 높다.")
+    void resolveAccessor() throws InterruptedException {
+        List<String> tokens = IntStream.range(0, MEMBER_COUNT)
+                .mapToObj(i -> memberRepository.save(
+                        new Member("auth" + i + "@gmail.com", "password", "회원" + i, Role.USER)))
+                .map(member -> tokenProvider.createToken(TokenPayload.from(member)))
+                .toList();
+        ConcurrentLoadRunner runner = new ConcurrentLoadRunner(THREAD_COUNT);
+
+        // 2차 캐시가 없던 때와 같이 매 요청 회원 조회 쿼리가 실행되도록 캐시를 비운다.
+        LoadResult memberLookup = runner.run("member-lookup", REQUEST_COUNT, index -> {
+            Long memberId = authService.getMemberIdByToken(tokens.get(index % MEMBER_COUNT));
+            entityManagerFactory.getCache().evict(Member.class, memberId);
+            memberService.getById(memberId);
+        });
+        LoadResult claims = runner.run("token-claims", REQUEST_COUNT,
+                index -> authService.getPayloadByToken(tokens.get(index % MEMBER_COUNT)));
+
+        System.out.println(memberLookup.report());
+        System.out.println(claims.report());
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(memberLookup.successCount()).isEqualTo(REQUEST_COUNT);
+            softly.assertThat(claims.successCount()).isEqualTo(REQUEST_COUNT);
+            softly.assertThat(claims.throughputPerSecond()).isGreaterThan(memberLookup.throughputPerSecond());
+        });
+    }
+}
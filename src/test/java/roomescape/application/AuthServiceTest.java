@@ -4,18 +4,29 @@ import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 
+import jakarta.persistence.EntityManagerFactory;
 import org.assertj.core.api.SoftAssertions;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
 import roomescape.application.dto.request.LoginRequest;
 import roomescape.application.dto.request.SignupRequest;
 import roomescape.application.dto.response.MemberResponse;
+import roomescape.domain.member.Member;
+import roomescape.domain.member.MemberRepository;
 import roomescape.domain.member.Role;
 import roomescape.exception.BadRequestException;
+import roomescape.exception.UnauthorizedException;
+import roomescape.infra.BcryptPasswordEncoder;
 
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 class AuthServiceTest extends BaseServiceTest {
 
+    private static final String CLIENT_IP = "127.0.0.1";
+
     @Autowired
     private AuthService authService;
 
@@ -25,10 +36,19 @@ class AuthServiceTest extends BaseServiceTest {
     @Autowired
     private TokenProvider tokenProvider;
 
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @Test
     @DisplayName("토큰을 생성한다.")
     void createToken() {
-        String token = authService.createToken(1L);
+        String token = authService.createToken(new MemberResponse(1L, "ex@gmail.com", "구름", Role.USER));
 
         assertThatCode(() -> tokenProvider.getMemberId(token))
                 .doesNotThrowAnyException();
@@ -41,7 +61,7 @@ class AuthServiceTest extends BaseServiceTest {
 
         LoginRequest request = new LoginRequest("ex@gmail.com", "password");
 
-        MemberResponse response = authService.validatePassword(request);
+        MemberResponse response = authService.validatePassword(request, CLIENT_IP);
 
         SoftAssertions.assertSoftly(softly -> {
             softly.assertThat(response.email()).isEqualTo("ex@gmail.com");
@@ -57,19 +77,85 @@ class AuthServiceTest extends BaseServiceTest {
 
         LoginRequest request = new LoginRequest("ex@gmail.com", "wrong_password");
 
-        assertThatThrownBy(() -> authService.validatePassword(request))
+        assertThatThrownBy(() -> authService.validatePassword(request, CLIENT_IP))
                 .isInstanceOf(BadRequestException.class)
                 .hasMessage("비밀번호가 일치하지 않습니다.");
     }
 
+    @Test
+    @DisplayName("비용 인자가 바뀐 뒤 로그인하면 비밀번호를 새 비용 인자로 다시 암호화한다.")
+    void validatePasswordRehashesWhenCostChanged() {
+        String legacyPassword = new BcryptPasswordEncoder(5).encode("password");
+        Member member = memberRepository.save(new Member("ex@gmail.com", legacyPassword, "구름", Role.USER));
+
+        authService.validatePassword(new LoginRequest("ex@gmail.com", "password"), CLIENT_IP);
+
+        String rehashedPassword = memberRepository.getById(member.getId()).getPassword();
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(passwordEncoder.needsRehash(legacyPassword)).isTrue();
+            softly.assertThat(passwordEncoder.needsRehash(rehashedPassword)).isFalse();
+            softly.assertThat(passwordEncoder.matches("password", rehashedPassword)).isTrue();
+        });
+    }
+
     @Test
     @DisplayName("토큰으로 회원 아이디를 가져올 수 있다.")
     void getMemberId() {
         Long memberId = 1L;
 
-        String token = tokenProvider.createToken(memberId.toString());
+        String token = tokenProvider.createToken(new TokenPayload(memberId, "ex@gmail.com", "구름", Role.USER));
         Long memberIdByToken = authService.getMemberIdByToken(token);
 
         assertThat(memberIdByToken).isEqualTo(memberId);
     }
+
+    @Test
+    @DisplayName("토큰의 클레임으로 회원 정보를 가져온다.")
+    void getPayloadByToken() {
+        Member member = memberRepository.save(new Member("ex@gmail.com", "password", "구름", Role.USER));
+        String token = tokenProvider.createToken(TokenPayload.from(member));
+
+        TokenPayload payload = authService.getPayloadByToken(token);
+
+        assertThat(payload).isEqualTo(TokenPayload.from(member));
+    }
+
+    @Test
+    @DisplayName("회원 역할이 캐시되어 있으면 트랜잭션과 커넥션 없이 토큰을 확인한다.")
+    void getPayloadByTokenWithoutTransactionWhenRoleCached() {
+        Member member = memberRepository.save(new Member("ex@gmail.com", "password", "구름", Role.USER));
+        String token = tokenProvider.createToken(TokenPayload.from(member));
+        authService.getPayloadByToken(token);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        authService.getPayloadByToken(token);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(statistics.getTransactionCount()).isZero();
+            softly.assertThat(statistics.getConnectCount()).isZero();
+            softly.assertThat(statistics.getPrepareStatementCount()).isZero();
+        });
+    }
+
+    @Test
+    @DisplayName("토큰의 역할이 회원의 현재 역할과 다르면 예외를 발생시킨다.")
+    void getPayloadByTokenWhenRoleChanged() {
+        Member member = memberRepository.save(new Member("ex@gmail.com", "password", "구름", Role.USER));
+        String token = tokenProvider.createToken(
+                new TokenPayload(member.getId(), member.getEmail(), member.getName(), Role.ADMIN));
+
+        assertThatThrownBy(() -> authService.getPayloadByToken(token))
+                .isInstanceOf(UnauthorizedException.class)
+                .hasMessage("회원 정보가 변경되었습니다. 다시 로그인해주세요.");
+    }
+
+    @Test
+    @DisplayName("탈퇴했거나 존재하지 않는 회원의 토큰이면 예외를 발생시킨다.")
+    void getPayloadByTokenWhenMemberNotExists() {
+        String token = tokenProvider.createToken(new TokenPayload(-1L, "ex@gmail.com", "구름", Role.USER));
+
+        assertThatThrownBy(() -> authService.getPayloadByToken(token))
+                .isInstanceOf(UnauthorizedException.class);
+    }
 }
@@ -0,0 +1,200 @@
+package roomescape.application;
+
+import static roomescape.fixture.Fixture.THEME_1;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import roomescape.application.dto.request.ReservationRequest;
+import roomescape.application.dto.request.WaitingRequest;
+import roomescape.domain.member.Member;
+import roomescape.domain.member.MemberRepository;
+import roomescape.domain.member.Role;
+import roomescape.domain.reservation.Reservation;
+import roomescape.domain.reservation.ReservationRepository;
+import roomescape.domain.reservation.Waiting;
+import roomescape.domain.reservation.WaitingRepository;
+import roomescape.domain.reservation.detail.ReservationDetail;
+import roomescape.domain.reservation.detail.ReservationTime;
+import roomescape.domain.reservation.detail.ReservationTimeRepository;
+import roomescape.domain.reservation.detail.Theme;
+import roomescape.domain.reservation.detail.ThemeRepository;
+import roomescape.domain.reservation.dto.MyReservationDto;
+import roomescape.support.performance.ConcurrentLoadRunner;
+import roomescape.support.performance.LoadResult;
+
+@Tag("performance")
+class BookingStressTest extends BaseServiceTest {
+
+    private static final int THREAD_COUNT = 8;
+    private static final int MEMBER_COUNT = 50;
+    private static final int TIME_COUNT = 4;
+    private static final LocalDateTime CURRENT_DATE_TIME = LocalDateTime.of(2024, 4, 8, 10, 0);
+    private static final LocalDate DATE = LocalDate.of(2024, 4, 9);
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private WaitingService waitingService;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private WaitingRepository waitingRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ThemeRepository themeRepository;
+
+    @Autowired
+    private ReservationTimeRepository reservationTimeRepository;
+
+    private final ConcurrentLoadRunner loadRunner = new ConcurrentLoadRunner(THREAD_COUNT);
+
+    private List<Member> members;
+    private List<ReservationTime> times;
+    private Theme theme;
+
+    @BeforeEach
+    void setUp() {
+        members = IntStream.range(0, MEMBER_COUNT)
+                .mapToObj(i -> new Member("stress" + i + "@gmail.com", "password", "user" + i, Role.USER))
+                .map(memberRepository::save)
+                .toList();
+        times = IntStream.range(0, TIME_COUNT)
+                .mapToObj(i -> new ReservationTime(LocalTime.of(10 + i, 0)))
+                .map(reservationTimeRepository::save)
+                .toList();
+        theme = themeRepository.save(THEME_1);
+    }
+
+    @Test
+    @DisplayName("같은 슬롯에 예약이 몰려도 예약은 하나만 생성된다.")
+    void addReservationToSameSlot() throws InterruptedException {
+        int requestCount = 200;
+        ReservationTime time = times.get(0);
+
+        LoadResult result = loadRunner.run("addReservation/same-slot", requestCount, index ->
+                reservationService.addReservation(reservationRequest(DATE, time, memberOf(index))));
+
+        System.out.println(result.report());
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(result.successCount()).isEqualTo(1);
+            softly.assertThat(result.rejectedCount()).isEqualTo(requestCount - 1);
+            softly.assertThat(reservationRepository.count()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    @DisplayName("서로 다른 슬롯의 예약은 모두 성공하고 슬롯마다 예약은 하나씩만 존재한다.")
+    void addReservationToDifferentSlots() throws InterruptedException {
+        int dayCount = 50;
+        int requestCount = dayCount * TIME_COUNT;
+
+        LoadResult result = loadRunner.run("addReservation/different-slots", requestCount, index -> {
+            LocalDate date = DATE.plusDays(index / TIME_COUNT);
+            ReservationTime time = times.get(index % TIME_COUNT);
+
+            reservationService.addReservation(reservationRequest(date, time, memberOf(index)));
+        });
+
+        System.out.println(result.report());
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(result.successCount()).isEqualTo(requestCount);
+            softly.assertThat(reservationCountsBySlot().values()).allMatch(count -> count == 1);
+            softly.assertThat(reservationRepository.count()).isEqualTo(requestCount);
+        });
+    }
+
+    @Test
+    @DisplayName("같은 슬롯에 예약 대기가 몰려도 회원마다 하나씩만 생성되고 순번이 겹치지 않는다.")
+    void addWaitingToSameSlot() throws InterruptedException {
+        ReservationTime time = times.get(0);
+        Member owner = members.get(0);
+        List<Member> waitingMembers = members.subList(1, MEMBER_COUNT);
+        int requestCount = waitingMembers.size() * 2;
+        reservationRepository.save(new Reservation(new ReservationDetail(DATE, time, theme), owner));
+
+        LoadResult result = loadRunner.run("addWaiting/same-slot", requestCount, index -> {
+            Member member = waitingMembers.get(index % waitingMembers.size());
+
+            waitingService.addWaiting(waitingRequest(DATE, time, member));
+        });
+
+        System.out.println(result.report());
+
+        List<Long> ranks = waitingMembers.stream()
+                .flatMap(member -> reservationRepository.findMyReservations(member.getId()).stream())
+                .sorted(Comparator.comparing(MyReservationDto::id))
+                .map(MyReservationDto::rank)
+                .toList();
+        List<Long> expectedRanks = IntStream.rangeClosed(1, waitingMembers.size())
+                .mapToObj(Long::valueOf)
+                .toList();
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(result.successCount()).isEqualTo(waitingMembers.size());
+            softly.assertThat(result.rejectedCount()).isEqualTo(waitingMembers.size());
+            softly.assertThat(waitingRepository.count()).isEqualTo(waitingMembers.size());
+            softly.assertThat(ranks).containsExactlyElementsOf(expectedRanks);
+        });
+    }
+
+    @Test
+    @DisplayName("같은 슬롯의 예약 대기들을 동시에 승인해도 예약은 하나만 생성된다.")
+    void approveWaitingsOfSameSlot() throws InterruptedException {
+        ReservationTime time = times.get(0);
+        List<Waiting> waitings = members.stream()
+                .map(member -> waitingRepository.save(new Waiting(new ReservationDetail(DATE, time, theme), member)))
+                .toList();
+
+        LoadResult result = loadRunner.run("approveWaitingToReservation/same-slot", waitings.size(), index ->
+                waitingService.approveWaitingToReservation(CURRENT_DATE_TIME, waitings.get(index).getId()));
+
+        System.out.println(result.report());
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(result.successCount()).isEqualTo(1);
+            softly.assertThat(result.rejectedCount()).isEqualTo(waitings.size() - 1);
+            softly.assertThat(reservationRepository.count()).isEqualTo(1);
+            softly.assertThat(waitingRepository.count()).isEqualTo(waitings.size() - 1);
+        });
+    }
+
+    private Member memberOf(int index) {
+        return members.get(index % MEMBER_COUNT);
+    }
+
+    private ReservationRequest reservationRequest(LocalDate date, ReservationTime time, Member member) {
+        return new ReservationRequest(CURRENT_DATE_TIME, date, theme.getId(), time.getId(), member.getId());
+    }
+
+    private WaitingRequest waitingRequest(LocalDate date, ReservationTime time, Member member) {
+        return new WaitingRequest(CURRENT_DATE_TIME, date, theme.getId(), time.getId(), member.getId());
+    }
+
+    private Map<String, Long> reservationCountsBySlot() {
+        return reservationRepository.findAll().stream()
+                .map(Reservation::getDetail)
+                .map(detail -> detail.getDate() + "/" + detail.getTime().getId() + "/" + detail.getTheme().getId())
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+    }
+}
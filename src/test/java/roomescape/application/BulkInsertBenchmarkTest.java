@@ -0,0 +1,83 @@
+package roomescape.application;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.assertj.core.api.SoftAssertions;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import roomescape.domain.member.Member;
+import roomescape.domain.member.MemberRepository;
+import roomescape.domain.member.Role;
+
+@Tag("performance")
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class BulkInsertBenchmarkTest extends BaseServiceTest {
+
+    private static final int BATCH_SIZE = 50;
+    private static final int NO_BATCH_SIZE = 1;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1_000, 5_000})
+    @DisplayName("회원을 일괄 저장하면 배치 INSERT로 묶여 실행된다.")
+    void saveAllMembers(int memberCount) {
+        saveAll("warm-up-single", memberCount, NO_BATCH_SIZE);
+        saveAll("warm-up-batch", memberCount, BATCH_SIZE);
+
+        BulkInsertResult single = saveAll("single", memberCount, NO_BATCH_SIZE);
+        BulkInsertResult batch = saveAll("batch", memberCount, BATCH_SIZE);
+
+        System.out.printf("[bulk-insert] members=%d, single=%.3fms (%d statements), batch=%.3fms (%d statements)%n",
+                memberCount,
+                single.elapsed().toNanos() / 1_000_000.0, single.statementCount(),
+                batch.elapsed().toNanos() / 1_000_000.0, batch.statementCount());
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(memberRepository.count()).isEqualTo(memberCount * 4L);
+            softly.assertThat(single.statementCount()).isGreaterThanOrEqualTo(memberCount);
+            softly.assertThat(batch.statementCount()).isLessThan(single.statementCount() / 10);
+        });
+    }
+
+    private BulkInsertResult saveAll(String prefix, int memberCount, int batchSize) {
+        List<Member> members = IntStream.range(0, memberCount)
+                .mapToObj(i -> new Member(prefix + i + "@gmail.com", "password", "user" + i, Role.USER))
+                .toList();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        long startedAt = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+            memberRepository.saveAll(members);
+        });
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+
+        return new BulkInsertResult(elapsed, statistics.getPrepareStatementCount());
+    }
+
+    private record BulkInsertResult(Duration elapsed, long statementCount) {
+    }
+}
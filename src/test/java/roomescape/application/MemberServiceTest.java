@@ -2,11 +2,14 @@ package roomescape.application;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.time.Instant;
 import java.util.List;
 import org.assertj.core.api.SoftAssertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+import roomescape.application.dto.request.MemberRoleRequest;
 import roomescape.application.dto.request.SignupRequest;
 import roomescape.application.dto.response.MemberResponse;
 import roomescape.domain.member.Member;
@@ -22,6 +25,12 @@ class MemberServiceTest extends BaseServiceTest {
     @Autowired
     private MemberRepository memberRepository;
 
+    @Autowired
+    private TokenRevocationList tokenRevocationList;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
     @Test
     @DisplayName("회원을 생성한다.")
     void createMember() {
@@ -79,4 +88,36 @@ class MemberServiceTest extends BaseServiceTest {
             softly.assertThat(memberResponse.role()).isEqualTo(Role.USER);
         });
     }
+
+    @Test
+    @DisplayName("회원의 역할을 바꾸면 이전에 발급한 토큰을 폐기한다.")
+    void changeRole() {
+        Member member = memberRepository.save(new Member("ex@gmail.com", "password", "구름", Role.ADMIN));
+        Instant issuedAt = Instant.now();
+
+        MemberResponse memberResponse = memberService.changeRole(member.getId(), new MemberRoleRequest(Role.USER));
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(memberResponse.role()).isEqualTo(Role.USER);
+            softly.assertThat(memberRepository.getById(member.getId()).getRole()).isEqualTo(Role.USER);
+            softly.assertThat(tokenRevocationList.isRevoked(member.getId(), issuedAt)).isTrue();
+        });
+    }
+
+    @Test
+    @DisplayName("역할 변경이 커밋되지 않으면 토큰을 폐기하지 않는다.")
+    void changeRoleWhenRolledBack() {
+        Member member = memberRepository.save(new Member("ex@gmail.com", "password", "구름", Role.ADMIN));
+        Instant issuedAt = Instant.now();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            memberService.changeRole(member.getId(), new MemberRoleRequest(Role.USER));
+            status.setRollbackOnly();
+        });
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(memberRepository.getById(member.getId()).getRole()).isEqualTo(Role.ADMIN);
+            softly.assertThat(tokenRevocationList.isRevoked(member.getId(), issuedAt)).isFalse();
+        });
+    }
 }
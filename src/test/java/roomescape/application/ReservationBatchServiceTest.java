@@ -0,0 +1,141 @@
+package roomescape.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static roomescape.fixture.Fixture.MEMBER_1;
+import static roomescape.fixture.Fixture.MEMBER_2;
+import static roomescape.fixture.Fixture.RESERVATION_TIME_1;
+import static roomescape.fixture.Fixture.RESERVATION_TIME_2;
+import static roomescape.fixture.Fixture.THEME_1;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import roomescape.application.dto.request.ReservationRequest;
+import roomescape.application.dto.response.ReservationBatchFailureResponse;
+import roomescape.application.dto.response.ReservationBatchResponse;
+import roomescape.application.dto.response.ReservationResponse;
+import roomescape.domain.member.Member;
+import roomescape.domain.member.MemberRepository;
+import roomescape.domain.reservation.Reservation;
+import roomescape.domain.reservation.ReservationRepository;
+import roomescape.domain.reservation.Waiting;
+import roomescape.domain.reservation.WaitingRepository;
+import roomescape.domain.reservation.detail.ReservationDetail;
+import roomescape.domain.reservation.detail.ReservationTime;
+import roomescape.domain.reservation.detail.ReservationTimeRepository;
+import roomescape.domain.reservation.detail.Theme;
+import roomescape.domain.reservation.detail.ThemeRepository;
+
+class ReservationBatchServiceTest extends BaseServiceTest {
+
+    private static final LocalDateTime CURRENT_DATE_TIME = LocalDateTime.of(2024, 4, 8, 10, 0);
+    private static final LocalDate DATE = LocalDate.of(2024, 4, 9);
+
+    @Autowired
+    private ReservationBatchService reservationBatchService;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private WaitingRepository waitingRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ThemeRepository themeRepository;
+
+    @Autowired
+    private ReservationTimeRepository reservationTimeRepository;
+
+    private Member member1;
+    private Member member2;
+    private ReservationTime time1;
+    private ReservationTime time2;
+    private Theme theme;
+
+    @BeforeEach
+    void setUp() {
+        member1 = memberRepository.save(MEMBER_1);
+        member2 = memberRepository.save(MEMBER_2);
+        theme = themeRepository.save(THEME_1);
+        time1 = reservationTimeRepository.save(RESERVATION_TIME_1);
+        time2 = reservationTimeRepository.save(RESERVATION_TIME_2);
+    }
+
+    @Test
+    @DisplayName("여러 예약을 한 번에 생성한다.")
+    void addReservations() {
+        List<ReservationRequest> requests = List.of(
+                request(DATE, time1, member1),
+                request(DATE, time2, member2),
+                request(DATE.plusDays(1), time1, member1)
+        );
+
+        ReservationBatchResponse response = reservationBatchService.addReservations(requests);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(response.failures()).isEmpty();
+            softly.assertThat(response.reservations()).extracting(ReservationResponse::date)
+                    .containsExactly(DATE, DATE, DATE.plusDays(1));
+            softly.assertThat(reservationRepository.count()).isEqualTo(3);
+        });
+    }
+
+    @Test
+    @DisplayName("검증에 실패한 예약은 실패 목록에 담고, 나머지 예약만 생성한다.")
+    void addReservationsWithFailures() {
+        reservationRepository.save(new Reservation(new ReservationDetail(DATE, time1, theme), member1));
+        waitingRepository.save(new Waiting(new ReservationDetail(DATE.plusDays(1), time1, theme), member2));
+
+        List<ReservationRequest> requests = List.of(
+                request(DATE, time1, member2),
+                request(DATE.plusDays(1), time2, member1),
+                request(DATE.plusDays(1), time1, member1),
+                request(DATE.plusDays(1), time2, member2),
+                request(LocalDate.of(2024, 4, 7), time1, member1),
+                new ReservationRequest(CURRENT_DATE_TIME, DATE, theme.getId(), time2.getId(), -1L)
+        );
+
+        ReservationBatchResponse response = reservationBatchService.addReservations(requests);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(response.reservations()).hasSize(1);
+            softly.assertThat(response.failures()).extracting(ReservationBatchFailureResponse::index)
+                    .containsExactly(0, 2, 3, 4, 5);
+            softly.assertThat(response.failures()).extracting(ReservationBatchFailureResponse::message)
+                    .containsExactly(
+                            "이미 예약이 존재합니다.",
+                            "예약 대기가 존재하여 예약을 할 수 없습니다.",
+                            "이미 예약이 존재합니다.",
+                            "지나간 날짜/시간에 대한 예약은 불가능합니다. (예약 날짜: 2024-04-07, 예약 시간: 10:00)",
+                            "해당 id의 회원이 존재하지 않습니다. (id: -1)"
+                    );
+            softly.assertThat(reservationRepository.count()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    @DisplayName("모든 예약이 실패하면 아무 예약도 생성하지 않는다.")
+    void addReservationsWhenAllFailed() {
+        ReservationBatchResponse response = reservationBatchService.addReservations(List.of(
+                new ReservationRequest(CURRENT_DATE_TIME, DATE, -1L, time1.getId(), member1.getId())
+        ));
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(response.reservations()).isEmpty();
+            softly.assertThat(response.failures()).hasSize(1);
+        });
+        assertThat(reservationRepository.count()).isZero();
+    }
+
+    private ReservationRequest request(LocalDate date, ReservationTime time, Member member) {
+        return new ReservationRequest(CURRENT_DATE_TIME, date, theme.getId(), time.getId(), member.getId());
+    }
+}
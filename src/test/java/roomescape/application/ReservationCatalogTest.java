@@ -0,0 +1,83 @@
+package roomescape.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static roomescape.fixture.Fixture.THEME_1;
+import static roomescape.fixture.Fixture.THEME_2;
+
+import java.time.LocalTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import roomescape.application.dto.request.ReservationTimeRequest;
+import roomescape.application.dto.request.ThemeRequest;
+import roomescape.domain.exception.DomainNotFoundException;
+import roomescape.domain.reservation.detail.ReservationTime;
+import roomescape.domain.reservation.detail.ReservationTimeRepository;
+import roomescape.domain.reservation.detail.Theme;
+import roomescape.domain.reservation.detail.ThemeRepository;
+
+class ReservationCatalogTest extends BaseServiceTest {
+
+    @Autowired
+    private ReservationCatalog reservationCatalog;
+
+    @Autowired
+    private ThemeService themeService;
+
+    @Autowired
+    private ReservationTimeService reservationTimeService;
+
+    @Autowired
+    private ThemeRepository themeRepository;
+
+    @Autowired
+    private ReservationTimeRepository reservationTimeRepository;
+
+    @Test
+    @DisplayName("테마 목록은 캐시되고, 테마가 추가되면 캐시를 비운다.")
+    void getThemes() {
+        themeRepository.save(THEME_1);
+        reservationCatalog.getThemes();
+        themeRepository.save(THEME_2);
+
+        List<Theme> cachedThemes = reservationCatalog.getThemes();
+        themeService.addTheme(new ThemeRequest("테마3", "테마3 설명", "https://example3.com"));
+        List<Theme> reloadedThemes = reservationCatalog.getThemes();
+
+        assertThat(cachedThemes).hasSize(1);
+        assertThat(reloadedThemes).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("예약 시간 목록은 캐시되고, 예약 시간이 삭제되면 캐시를 비운다.")
+    void getReservationTimes() {
+        ReservationTime time = reservationTimeRepository.save(new ReservationTime(LocalTime.of(10, 0)));
+        reservationCatalog.getReservationTimes();
+
+        reservationTimeService.deleteReservationTimeById(time.getId());
+
+        assertThat(reservationCatalog.getReservationTimes()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("아이디로 테마를 조회하고, 추가된 예약 시간은 목록에 반영한다.")
+    void getThemeAndAddedReservationTime() {
+        Theme theme = themeRepository.save(THEME_1);
+        reservationCatalog.getReservationTimes();
+
+        reservationTimeService.addReservationTime(new ReservationTimeRequest(LocalTime.of(11, 0)));
+
+        assertThat(reservationCatalog.getTheme(theme.getId())).isEqualTo(theme);
+        assertThat(reservationCatalog.getReservationTimes()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 테마를 조회하면 예외를 발생시킨다.")
+    void getThemeWhenNotExist() {
+        assertThatThrownBy(() -> reservationCatalog.getTheme(-1L))
+                .isInstanceOf(DomainNotFoundException.class)
+                .hasMessage(String.format("해당 id의 테마가 존재하지 않습니다. (id: %d)", -1L));
+    }
+}
@@ -0,0 +1,43 @@
+package roomescape.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.SQLException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+class ReservationConstraintsTest {
+
+    @Test
+    @DisplayName("예약 슬롯 유니크 제약 위반이면 중복 예약으로 판단한다.")
+    void detailDuplicated() {
+        DataIntegrityViolationException exception = violationOf("PUBLIC.UK_RESERVATION_DETAIL_INDEX_C");
+
+        assertThat(ReservationConstraints.isDetailDuplicated(exception)).isTrue();
+    }
+
+    @Test
+    @DisplayName("외래 키 제약 위반은 중복 예약으로 판단하지 않는다.")
+    void foreignKeyViolation() {
+        DataIntegrityViolationException exception = violationOf("FK_RESERVATION_TIME");
+
+        assertThat(ReservationConstraints.isDetailDuplicated(exception)).isFalse();
+    }
+
+    @Test
+    @DisplayName("제약 이름을 알 수 없는 위반은 중복 예약으로 판단하지 않는다.")
+    void unknownViolation() {
+        DataIntegrityViolationException exception = new DataIntegrityViolationException("NULL not allowed");
+
+        assertThat(ReservationConstraints.isDetailDuplicated(exception)).isFalse();
+    }
+
+    private DataIntegrityViolationException violationOf(String constraintName) {
+        ConstraintViolationException cause = new ConstraintViolationException(
+                "could not execute statement", new SQLException(), constraintName);
+
+        return new DataIntegrityViolationException("could not execute statement", cause);
+    }
+}
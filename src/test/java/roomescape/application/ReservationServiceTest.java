@@ -5,11 +5,17 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static roomescape.fixture.Fixture.MEMBER_1;
 import static roomescape.fixture.Fixture.MEMBER_2;
 import static roomescape.fixture.Fixture.RESERVATION_TIME_1;
+import static roomescape.fixture.Fixture.RESERVATION_TIME_2;
 import static roomescape.fixture.Fixture.THEME_1;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.assertj.core.api.SoftAssertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,6 +23,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import roomescape.application.dto.request.ReservationRequest;
+import roomescape.application.dto.request.ReservationSearchRequest;
 import roomescape.application.dto.response.MemberResponse;
 import roomescape.application.dto.response.ReservationResponse;
 import roomescape.application.dto.response.ReservationTimeResponse;
@@ -80,8 +87,8 @@ class ReservationServiceTest extends BaseServiceTest {
             ReservationRequest request = new ReservationRequest(
                     currentDateTime,
                     reservationDate,
-                    time1.getId(),
                     theme.getId(),
+                    time1.getId(),
                     member1.getId()
             );
             ReservationResponse response = reservationService.addReservation(request);
@@ -106,8 +113,8 @@ class ReservationServiceTest extends BaseServiceTest {
             ReservationRequest request = new ReservationRequest(
                     currentDateTime,
                     reservationDate,
-                    time1.getId(),
                     theme.getId(),
+                    time1.getId(),
                     member1.getId()
             );
 
@@ -127,8 +134,8 @@ class ReservationServiceTest extends BaseServiceTest {
             ReservationRequest request = new ReservationRequest(
                     currentDateTime,
                     reservationDate,
-                    time1.getId(),
                     theme.getId(),
+                    time1.getId(),
                     member1.getId()
             );
 
@@ -136,6 +143,58 @@ class ReservationServiceTest extends BaseServiceTest {
                     .isInstanceOf(BadRequestException.class)
                     .hasMessage("예약 대기가 존재하여 예약을 할 수 없습니다.");
         }
+
+        @Test
+        @DisplayName("같은 날짜/시간의 테마에 동시에 예약하면 하나만 성공한다.")
+        void onlyOneSucceedsWhenReservedConcurrently() throws InterruptedException {
+            int threadCount = 10;
+            LocalDateTime currentDateTime = LocalDateTime.of(2024, 4, 8, 10, 0);
+            LocalDate reservationDate = LocalDate.of(2024, 4, 9);
+            ReservationRequest request = new ReservationRequest(
+                    currentDateTime,
+                    reservationDate,
+                    theme.getId(),
+                    time1.getId(),
+                    member1.getId()
+            );
+
+            ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+            CountDownLatch startLatch = new CountDownLatch(1);
+            CountDownLatch doneLatch = new CountDownLatch(threadCount);
+            AtomicInteger successCount = new AtomicInteger();
+            AtomicInteger failCount = new AtomicInteger();
+            AtomicInteger unexpectedCount = new AtomicInteger();
+
+            for (int i = 0; i < threadCount; i++) {
+                executorService.submit(() -> {
+                    try {
+                        startLatch.await();
+                        reservationService.addReservation(request);
+                        successCount.incrementAndGet();
+                    } catch (BadRequestException e) {
+                        failCount.incrementAndGet();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } catch (RuntimeException e) {
+                        unexpectedCount.incrementAndGet();
+                    } finally {
+                        doneLatch.countDown();
+                    }
+                });
+            }
+
+            startLatch.countDown();
+            boolean completed = doneLatch.await(10, TimeUnit.SECONDS);
+            executorService.shutdown();
+
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(completed).isTrue();
+                softly.assertThat(unexpectedCount.get()).isZero();
+                softly.assertThat(successCount.get()).isEqualTo(1);
+                softly.assertThat(failCount.get()).isEqualTo(threadCount - 1);
+                softly.assertThat(reservationRepository.count()).isEqualTo(1);
+            });
+        }
     }
 
     @Test
@@ -146,10 +205,7 @@ class ReservationServiceTest extends BaseServiceTest {
         reservationRepository.save(new Reservation(detail1, member1));
 
         List<ReservationResponse> responses = reservationService.getReservationsByConditions(
-                member1.getId(),
-                theme.getId(),
-                date,
-                date
+                new ReservationSearchRequest(member1.getId(), theme.getId(), date, date, null, null, 10)
         );
 
         SoftAssertions.assertSoftly(softly -> {
@@ -161,6 +217,35 @@ class ReservationServiceTest extends BaseServiceTest {
         });
     }
 
+    @Test
+    @DisplayName("마지막으로 조회한 예약의 날짜와 아이디 이후의 예약들을 조회한다.")
+    void getReservationsByConditionsAfterCursor() {
+        LocalDate date1 = LocalDate.of(2024, 4, 9);
+        LocalDate date2 = LocalDate.of(2024, 4, 10);
+        Reservation reservation1 = reservationRepository.save(
+                new Reservation(new ReservationDetail(date2, time1, theme), member1));
+        Reservation reservation2 = reservationRepository.save(
+                new Reservation(new ReservationDetail(date1, time1, theme), member1));
+        ReservationTime time2 = reservationTimeRepository.save(RESERVATION_TIME_2);
+        Reservation reservation3 = reservationRepository.save(
+                new Reservation(new ReservationDetail(date1, time2, theme), member1));
+
+        List<ReservationResponse> firstPage = reservationService.getReservationsByConditions(
+                new ReservationSearchRequest(null, null, null, null, null, null, 2)
+        );
+        ReservationResponse last = firstPage.get(firstPage.size() - 1);
+        List<ReservationResponse> secondPage = reservationService.getReservationsByConditions(
+                new ReservationSearchRequest(null, null, null, null, last.date(), last.id(), 2)
+        );
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(firstPage).extracting(ReservationResponse::id)
+                    .containsExactly(reservation2.getId(), reservation3.getId());
+            softly.assertThat(secondPage).extracting(ReservationResponse::id)
+                    .containsExactly(reservation1.getId());
+        });
+    }
+
     @Nested
     @DisplayName("예약을 삭제하는 경우")
     class DeleteReservation {
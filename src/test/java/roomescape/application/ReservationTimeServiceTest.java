@@ -3,7 +3,9 @@ package roomescape.application;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static roomescape.fixture.Fixture.MEMBER_1;
+import static roomescape.fixture.Fixture.MEMBER_2;
 import static roomescape.fixture.Fixture.THEME_1;
+import static roomescape.fixture.Fixture.THEME_2;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -16,6 +18,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import roomescape.application.dto.request.ReservationTimeRequest;
 import roomescape.application.dto.response.AvailableReservationTimeResponse;
 import roomescape.application.dto.response.ReservationTimeResponse;
+import roomescape.application.dto.response.ThemeAvailabilityResponse;
 import roomescape.domain.exception.DomainNotFoundException;
 import roomescape.domain.member.Member;
 import roomescape.domain.member.MemberRepository;
@@ -108,6 +111,93 @@ class ReservationTimeServiceTest extends BaseServiceTest {
         });
     }
 
+    @Test
+    @DisplayName("예약이 삭제되면 해당 시간을 다시 이용 가능한 시간으로 조회한다.")
+    void getAvailableReservationTimesAfterReservationDeleted() {
+        LocalDateTime now = LocalDateTime.of(2024, 4, 8, 10, 0);
+        LocalDate date = LocalDate.of(2024, 4, 10);
+        Theme theme = themeRepository.save(THEME_1);
+        ReservationTime time = reservationTimeRepository.save(new ReservationTime(LocalTime.of(9, 0)));
+        Member member = memberRepository.save(MEMBER_1);
+        Reservation reservation = reservationRepository.save(
+                Reservation.create(now, new ReservationDetail(date, time, theme), member));
+
+        reservationRepository.delete(reservation);
+
+        List<AvailableReservationTimeResponse> responses = reservationTimeService
+                .getAvailableReservationTimes(date, theme.getId());
+
+        assertThat(responses).extracting(AvailableReservationTimeResponse::alreadyBooked)
+                .containsExactly(false);
+    }
+
+    @Test
+    @DisplayName("지난 날짜의 이용 가능한 시간들은 데이터베이스에서 조회한다.")
+    void getAvailableReservationTimesOfPastDate() {
+        LocalDate pastDate = LocalDate.of(2024, 4, 1);
+        Theme theme = themeRepository.save(THEME_1);
+        ReservationTime time1 = reservationTimeRepository.save(new ReservationTime(LocalTime.of(9, 0)));
+        ReservationTime time2 = reservationTimeRepository.save(new ReservationTime(LocalTime.of(10, 0)));
+        Member member = memberRepository.save(MEMBER_1);
+        reservationRepository.save(new Reservation(new ReservationDetail(pastDate, time1, theme), member));
+
+        List<AvailableReservationTimeResponse> responses = reservationTimeService
+                .getAvailableReservationTimes(pastDate, theme.getId());
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(responses).extracting(AvailableReservationTimeResponse::timeId)
+                    .containsExactly(time1.getId(), time2.getId());
+            softly.assertThat(responses).extracting(AvailableReservationTimeResponse::alreadyBooked)
+                    .containsExactly(true, false);
+        });
+    }
+
+    @Test
+    @DisplayName("날짜의 모든 테마별 이용 가능한 시간들을 조회한다.")
+    void getAvailabilityGrid() {
+        LocalDateTime now = LocalDateTime.of(2024, 4, 8, 10, 0);
+        LocalDate date = LocalDate.of(2024, 4, 10);
+        Theme theme1 = themeRepository.save(THEME_1);
+        Theme theme2 = themeRepository.save(THEME_2);
+        ReservationTime time1 = reservationTimeRepository.save(new ReservationTime(LocalTime.of(9, 0)));
+        ReservationTime time2 = reservationTimeRepository.save(new ReservationTime(LocalTime.of(10, 0)));
+        Member member1 = memberRepository.save(MEMBER_1);
+        Member member2 = memberRepository.save(MEMBER_2);
+
+        reservationRepository.save(Reservation.create(now, new ReservationDetail(date, time1, theme1), member1));
+        reservationRepository.save(Reservation.create(now, new ReservationDetail(date, time2, theme2), member2));
+
+        List<ThemeAvailabilityResponse> responses = reservationTimeService.getAvailabilityGrid(date);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(responses).extracting(ThemeAvailabilityResponse::themeId)
+                    .containsExactly(theme1.getId(), theme2.getId());
+            softly.assertThat(responses.get(0).times()).extracting(AvailableReservationTimeResponse::alreadyBooked)
+                    .containsExactly(true, false);
+            softly.assertThat(responses.get(1).times()).extracting(AvailableReservationTimeResponse::alreadyBooked)
+                    .containsExactly(false, true);
+        });
+    }
+
+    @Test
+    @DisplayName("지난 날짜의 테마별 이용 가능한 시간들은 데이터베이스에서 조회한다.")
+    void getAvailabilityGridOfPastDate() {
+        LocalDate pastDate = LocalDate.of(2024, 4, 1);
+        Theme theme = themeRepository.save(THEME_1);
+        ReservationTime time1 = reservationTimeRepository.save(new ReservationTime(LocalTime.of(9, 0)));
+        reservationTimeRepository.save(new ReservationTime(LocalTime.of(10, 0)));
+        Member member = memberRepository.save(MEMBER_1);
+        reservationRepository.save(new Reservation(new ReservationDetail(pastDate, time1, theme), member));
+
+        List<ThemeAvailabilityResponse> responses = reservationTimeService.getAvailabilityGrid(pastDate);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(responses).hasSize(1);
+            softly.assertThat(responses.get(0).times()).extracting(AvailableReservationTimeResponse::alreadyBooked)
+                    .containsExactly(true, false);
+        });
+    }
+
     @Test
     @DisplayName("id로 예약 시간을 삭제한다.")
     void deleteReservationTimeById() {
@@ -57,7 +57,7 @@ class ReservationWaitingServiceTest extends BaseServiceTest {
 
         Reservation reservation = reservationRepository
                 .save(new Reservation(new ReservationDetail(date, time1, theme1), member1));
-        reservationRepository.save(new Reservation(new ReservationDetail(date, time1, theme1), member2));
+        reservationRepository.save(new Reservation(new ReservationDetail(date, time2, theme1), member2));
         Waiting waiting = waitingRepository.save(new Waiting(new ReservationDetail(date, time2, theme1), member1));
 
         // when
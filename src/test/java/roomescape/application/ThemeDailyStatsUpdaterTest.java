@@ -0,0 +1,100 @@
+package roomescape.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static roomescape.fixture.Fixture.MEMBER_1;
+import static roomescape.fixture.Fixture.RESERVATION_TIME_1;
+import static roomescape.fixture.Fixture.RESERVATION_TIME_2;
+import static roomescape.fixture.Fixture.THEME_1;
+import static roomescape.fixture.Fixture.THEME_2;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import roomescape.domain.member.Member;
+import roomescape.domain.member.MemberRepository;
+import roomescape.domain.reservation.Reservation;
+import roomescape.domain.reservation.ReservationRepository;
+import roomescape.domain.reservation.detail.ReservationDetail;
+import roomescape.domain.reservation.detail.ReservationTime;
+import roomescape.domain.reservation.detail.ReservationTimeRepository;
+import roomescape.domain.reservation.detail.Theme;
+import roomescape.domain.reservation.detail.ThemeRepository;
+
+class ThemeDailyStatsUpdaterTest extends BaseServiceTest {
+
+    private static final LocalDate DATE = LocalDate.of(2024, 4, 9);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private ReservationTimeRepository reservationTimeRepository;
+
+    @Autowired
+    private ThemeRepository themeRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Test
+    @DisplayName("예약이 생성되면 테마의 일별 예약 수를 늘린다.")
+    void increaseWhenReservationCreated() {
+        Theme theme = themeRepository.save(THEME_1);
+        ReservationTime time1 = reservationTimeRepository.save(RESERVATION_TIME_1);
+        ReservationTime time2 = reservationTimeRepository.save(RESERVATION_TIME_2);
+        Member member = memberRepository.save(MEMBER_1);
+
+        reservationRepository.save(new Reservation(new ReservationDetail(DATE, time1, theme), member));
+        reservationRepository.save(new Reservation(new ReservationDetail(DATE, time2, theme), member));
+
+        assertThat(findReservationCount(theme.getId(), DATE)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("예약이 삭제되면 테마의 일별 예약 수를 줄인다.")
+    void decreaseWhenReservationDeleted() {
+        Theme theme = themeRepository.save(THEME_1);
+        ReservationTime time = reservationTimeRepository.save(RESERVATION_TIME_1);
+        Member member = memberRepository.save(MEMBER_1);
+        Reservation reservation = reservationRepository.save(
+                new Reservation(new ReservationDetail(DATE, time, theme), member));
+
+        reservationRepository.delete(reservation);
+
+        assertThat(findReservationCount(theme.getId(), DATE)).containsExactly(0L);
+    }
+
+    @Test
+    @DisplayName("저장한 예약의 일별 집계로 인기 테마를 조회한다.")
+    void findPopularThemesFromSavedReservations() {
+        Theme theme1 = themeRepository.save(THEME_1);
+        Theme theme2 = themeRepository.save(THEME_2);
+        ReservationTime time1 = reservationTimeRepository.save(RESERVATION_TIME_1);
+        ReservationTime time2 = reservationTimeRepository.save(RESERVATION_TIME_2);
+        Member member = memberRepository.save(MEMBER_1);
+
+        reservationRepository.save(new Reservation(new ReservationDetail(DATE, time1, theme2), member));
+        reservationRepository.save(new Reservation(new ReservationDetail(DATE, time2, theme2), member));
+        reservationRepository.save(new Reservation(new ReservationDetail(DATE, time1, theme1), member));
+        reservationRepository.save(new Reservation(new ReservationDetail(DATE.plusDays(1), time2, theme1), member));
+        reservationRepository.save(new Reservation(new ReservationDetail(DATE.plusDays(2), time2, theme1), member));
+
+        List<Theme> popularThemes = themeRepository.findPopularThemes(DATE, DATE, 2);
+
+        assertThat(popularThemes).extracting(Theme::getId)
+                .containsExactly(theme2.getId(), theme1.getId());
+    }
+
+    private List<Long> findReservationCount(Long themeId, LocalDate date) {
+        return jdbcTemplate.queryForList(
+                "SELECT reservation_count FROM theme_daily_stats WHERE theme_id = ? AND date = ?",
+                Long.class, themeId, date
+        );
+    }
+}
@@ -0,0 +1,115 @@
+package roomescape.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static roomescape.fixture.Fixture.RESERVATION_TIME_1;
+import static roomescape.fixture.Fixture.THEME_1;
+
+import jakarta.persistence.EntityManager;
+import java.sql.Date;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.LongSupplier;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import roomescape.domain.reservation.ReservationRepository;
+import roomescape.domain.reservation.detail.ReservationTime;
+import roomescape.domain.reservation.detail.ReservationTimeRepository;
+import roomescape.domain.reservation.detail.Theme;
+import roomescape.domain.reservation.detail.ThemeRepository;
+import roomescape.domain.reservation.dto.MyReservationDto;
+
+@Tag("performance")
+class WaitingRankBenchmarkTest extends BaseServiceTest {
+
+    private static final LocalDate DATE = LocalDate.of(2024, 4, 9);
+    private static final int WARM_UP_COUNT = 5;
+    private static final int MEASURE_COUNT = 20;
+    private static final String SELF_JOIN_RANK_QUERY = """
+            SELECT COUNT(w2.id)
+            FROM Waiting w
+            JOIN Waiting w2
+            ON w2.detail = w.detail
+            WHERE w.member.id = :memberId AND w2.id <= w.id
+            GROUP BY w.id
+            """;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private ThemeRepository themeRepository;
+
+    @Autowired
+    private ReservationTimeRepository reservationTimeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @ParameterizedTest
+    @ValueSource(ints = {100, 1_000, 5_000})
+    @DisplayName("예약 대기열이 길어져도 마지막 회원의 순번을 계산한다.")
+    void findMyReservationsWithRank(int queueLength) {
+        Theme theme = themeRepository.save(THEME_1);
+        ReservationTime time = reservationTimeRepository.save(RESERVATION_TIME_1);
+        Long lastMemberId = seedQueue(queueLength, theme, time);
+
+        Duration windowFunction = measure(() -> reservationRepository.findMyReservations(lastMemberId)
+                .get(0)
+                .rank());
+        Duration selfJoin = measure(() -> transactionTemplate.execute(status -> entityManager
+                .createQuery(SELF_JOIN_RANK_QUERY, Long.class)
+                .setParameter("memberId", lastMemberId)
+                .getSingleResult()));
+
+        System.out.printf("[waiting-rank] queue=%d, window-function=%.3fms, self-join=%.3fms%n",
+                queueLength, windowFunction.toNanos() / 1_000_000.0, selfJoin.toNanos() / 1_000_000.0);
+
+        List<MyReservationDto> myReservations = reservationRepository.findMyReservations(lastMemberId);
+
+        assertThat(myReservations).extracting(MyReservationDto::rank)
+                .containsExactly((long) queueLength);
+    }
+
+    private Long seedQueue(int queueLength, Theme theme, ReservationTime time) {
+        List<Object[]> members = IntStream.range(0, queueLength)
+                .mapToObj(i -> new Object[]{"waiting" + i + "@gmail.com", "password", "user" + i, "USER"})
+                .toList();
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO member (id, email, password, name, role)
+                VALUES (NEXT VALUE FOR member_seq, ?, ?, ?, ?)
+                """, members);
+
+        List<Long> memberIds = jdbcTemplate.queryForList("SELECT id FROM member ORDER BY id", Long.class);
+        List<Object[]> waitings = memberIds.stream()
+                .map(memberId -> new Object[]{Date.valueOf(DATE), time.getId(), theme.getId(), memberId})
+                .toList();
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO waiting (id, date, time_id, theme_id, member_id)
+                VALUES (NEXT VALUE FOR waiting_seq, ?, ?, ?, ?)
+                """, waitings);
+
+        return memberIds.get(memberIds.size() - 1);
+    }
+
+    private Duration measure(LongSupplier query) {
+        IntStream.range(0, WARM_UP_COUNT).forEach(i -> query.getAsLong());
+
+        long startedAt = System.nanoTime();
+        IntStream.range(0, MEASURE_COUNT).forEach(i -> query.getAsLong());
+
+        return Duration.ofNanos((System.nanoTime() - startedAt) / MEASURE_COUNT);
+    }
+}
@@ -17,6 +17,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import roomescape.application.dto.request.WaitingRequest;
+import roomescape.application.dto.request.WaitingSearchRequest;
 import roomescape.application.dto.response.MemberResponse;
 import roomescape.application.dto.response.ReservationResponse;
 import roomescape.application.dto.response.ReservationTimeResponse;
@@ -86,8 +87,8 @@ class WaitingServiceTest extends BaseServiceTest {
             WaitingRequest request = new WaitingRequest(
                     currentDateTime,
                     waitingDate,
-                    time1.getId(),
                     theme.getId(),
+                    time1.getId(),
                     member2.getId()
             );
 
@@ -112,8 +113,8 @@ class WaitingServiceTest extends BaseServiceTest {
             WaitingRequest request = new WaitingRequest(
                     currentDateTime,
                     waitingDate,
-                    time1.getId(),
                     theme.getId(),
+                    time1.getId(),
                     member1.getId()
             );
 
@@ -135,8 +136,8 @@ class WaitingServiceTest extends BaseServiceTest {
             WaitingRequest request = new WaitingRequest(
                     currentDateTime,
                     waitingDate,
-                    time1.getId(),
                     theme.getId(),
+                    time1.getId(),
                     member1.getId()
             );
 
@@ -160,8 +161,8 @@ class WaitingServiceTest extends BaseServiceTest {
             WaitingRequest request = new WaitingRequest(
                     currentDateTime,
                     waitingDate,
-                    time1.getId(),
                     theme.getId(),
+                    time1.getId(),
                     member1.getId()
             );
 
@@ -180,7 +181,7 @@ class WaitingServiceTest extends BaseServiceTest {
         reservationRepository.save(new Reservation(detail, member1));
         waitingRepository.save(new Waiting(detail, member2));
 
-        List<WaitingResponse> responses = waitingService.getWaitings();
+        List<WaitingResponse> responses = waitingService.getWaitings(new WaitingSearchRequest(null, null, null, 100));
 
         SoftAssertions.assertSoftly(softly -> {
             softly.assertThat(responses).hasSize(1);
@@ -191,6 +192,27 @@ class WaitingServiceTest extends BaseServiceTest {
         });
     }
 
+    @Test
+    @DisplayName("날짜 범위에 해당하는 예약 대기들을 마지막으로 조회한 id 이후부터 개수만큼 조회한다.")
+    void getReservationWaitingsByConditions() {
+        LocalDate date = LocalDate.of(2024, 4, 9);
+        ReservationDetail detail = new ReservationDetail(date, time1, theme);
+        ReservationDetail otherDetail = new ReservationDetail(date.plusDays(1), time1, theme);
+        Waiting waiting1 = waitingRepository.save(new Waiting(detail, member1));
+        Waiting waiting2 = waitingRepository.save(new Waiting(detail, member2));
+        waitingRepository.save(new Waiting(otherDetail, member1));
+
+        List<WaitingResponse> firstPage = waitingService.getWaitings(
+                new WaitingSearchRequest(date, date, null, 1));
+        List<WaitingResponse> secondPage = waitingService.getWaitings(
+                new WaitingSearchRequest(date, date, waiting1.getId(), 1));
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(firstPage).extracting(WaitingResponse::id).containsExactly(waiting1.getId());
+            softly.assertThat(secondPage).extracting(WaitingResponse::id).containsExactly(waiting2.getId());
+        });
+    }
+
     @Nested
     @DisplayName("예약 대기에서 예약을 승인하는 경우")
     class ApproveReservationWaiting {
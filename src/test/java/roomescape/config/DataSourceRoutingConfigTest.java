@@ -0,0 +1,115 @@
+package roomescape.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.assertj.core.api.SoftAssertions;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import roomescape.application.BaseServiceTest;
+import roomescape.domain.reservation.detail.Theme;
+import roomescape.domain.reservation.detail.ThemeRepository;
+import roomescape.infra.ReadYourWritesTracker;
+
+@TestPropertySource(properties = {
+        "reservation.datasource.routing.enabled=true",
+        "reservation.datasource.primary.url=" + DataSourceRoutingConfigTest.PRIMARY_URL,
+        "reservation.datasource.replica.url=" + DataSourceRoutingConfigTest.REPLICA_URL,
+        "reservation.datasource.primary.hikari.maximum-pool-size=4",
+        "reservation.datasource.primary.hikari.connection-timeout=1500",
+        "reservation.datasource.replica.hikari.maximum-pool-size=2"
+})
+class DataSourceRoutingConfigTest extends BaseServiceTest {
+
+    static final String PRIMARY_URL = "jdbc:h2:mem:routing-context-primary;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_URL = "jdbc:h2:mem:routing-context-replica;DB_CLOSE_DELAY=-1";
+
+    private static final String REPLICA_THEME_NAME = "레플리카 테마";
+    private static final JdbcTemplate REPLICA = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+    @Autowired
+    private ThemeRepository themeRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ReadYourWritesTracker readYourWritesTracker;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    // 레플리카는 복제 대신 같은 마이그레이션으로 스키마만 맞춘다.
+    @BeforeAll
+    static void migrateReplica() {
+        Flyway.configure()
+                .dataSource(REPLICA_URL, "sa", "")
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+    }
+
+    @AfterEach
+    void tearDown() {
+        REPLICA.update("DELETE FROM theme");
+        readYourWritesTracker.unbind();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 JPA 트랜잭션은 레플리카에서, 쓰기 트랜잭션은 프라이머리에서 실행된다.")
+    void routeJpaTransactions() {
+        REPLICA.update("INSERT INTO theme (id, name, description, thumbnail) VALUES (1, ?, '설명', 'https://example.com')",
+                REPLICA_THEME_NAME);
+
+        boolean readOnlyFound = existsThemeInTransaction(REPLICA_THEME_NAME, true);
+        boolean readWriteFound = existsThemeInTransaction(REPLICA_THEME_NAME, false);
+
+        assertThat(readOnlyFound).isTrue();
+        assertThat(readWriteFound).isFalse();
+    }
+
+    @Test
+    @DisplayName("쓰기를 커밋한 세션만 이어지는 읽기 전용 JPA 트랜잭션을 프라이머리에서 실행한다.")
+    void routeReadOnlyJpaTransactionOfWriterToPrimary() {
+        readYourWritesTracker.bind("writer");
+        Theme theme = themeRepository.save(new Theme("새 테마", "설명", "https://example.com"));
+        boolean writerFound = existsThemeInTransaction(theme.getName(), true);
+
+        readYourWritesTracker.bind("reader");
+        boolean readerFound = existsThemeInTransaction(theme.getName(), true);
+
+        assertThat(writerFound).isTrue();
+        assertThat(readerFound).isFalse();
+    }
+
+    @Test
+    @DisplayName("프라이머리와 레플리카 풀에 각자의 Hikari 설정을 적용한다.")
+    void bindHikariPropertiesPerPool() {
+        HikariDataSource primary = applicationContext.getBean("primaryDataSource", HikariDataSource.class);
+        HikariDataSource replica = applicationContext.getBean("replicaDataSource", HikariDataSource.class);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(primary.getMaximumPoolSize()).isEqualTo(4);
+            softly.assertThat(primary.getConnectionTimeout()).isEqualTo(1500);
+            softly.assertThat(replica.getMaximumPoolSize()).isEqualTo(2);
+            softly.assertThat(replica.isReadOnly()).isTrue();
+        });
+    }
+
+    private boolean existsThemeInTransaction(String name, boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> themeRepository.existsByName(name)));
+    }
+}
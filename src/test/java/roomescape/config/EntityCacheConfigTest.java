@@ -0,0 +1,96 @@
+package roomescape.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalTime;
+import java.util.List;
+import org.assertj.core.api.SoftAssertions;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import roomescape.application.BaseServiceTest;
+import roomescape.domain.member.Member;
+import roomescape.domain.member.MemberRepository;
+import roomescape.domain.member.Role;
+import roomescape.domain.reservation.detail.ReservationTime;
+import roomescape.domain.reservation.detail.ReservationTimeRepository;
+import roomescape.domain.reservation.detail.Theme;
+import roomescape.domain.reservation.detail.ThemeRepository;
+import roomescape.support.statistics.QueryCounter;
+
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class EntityCacheConfigTest extends BaseServiceTest {
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ThemeRepository themeRepository;
+
+    @Autowired
+    private ReservationTimeRepository reservationTimeRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private QueryCounter queryCounter;
+
+    @BeforeEach
+    void setUp() {
+        queryCounter = new QueryCounter(entityManagerFactory);
+    }
+
+    @Test
+    @DisplayName("아이디로 조회한 회원은 2차 캐시에 저장되어 다음 조회부터 쿼리를 실행하지 않는다.")
+    void findMemberByIdFromSecondLevelCache() {
+        Long memberId = memberRepository.save(new Member("cache@gmail.com", "password", "cache", Role.USER)).getId();
+        entityManagerFactory.getCache().evictAll();
+
+        long firstQueryCount = queryCounter.count(() -> memberRepository.getById(memberId));
+        long secondQueryCount = queryCounter.count(() -> memberRepository.getById(memberId));
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(firstQueryCount).isEqualTo(1);
+            softly.assertThat(secondQueryCount).isZero();
+            softly.assertThat(statistics().getDomainDataRegionStatistics(Member.class.getName()).getHitCount())
+                    .isEqualTo(1);
+        });
+    }
+
+    @Test
+    @DisplayName("테마와 예약 시간 전체 조회 결과는 쿼리 캐시에 저장된다.")
+    void findAllFromQueryCache() {
+        themeRepository.save(new Theme("테마", "테마 설명", "https://example.com"));
+        reservationTimeRepository.save(new ReservationTime(LocalTime.of(10, 0)));
+        themeRepository.findAll();
+        reservationTimeRepository.findAll();
+
+        long queryCount = queryCounter.count(() -> {
+            themeRepository.findAll();
+            reservationTimeRepository.findAll();
+        });
+
+        assertThat(queryCount).isZero();
+    }
+
+    @Test
+    @DisplayName("테마가 추가되면 캐시된 테마 전체 조회 결과는 무효화된다.")
+    void invalidateQueryCacheOnInsert() {
+        themeRepository.save(new Theme("테마1", "테마 설명", "https://example.com"));
+        themeRepository.findAll();
+
+        themeRepository.save(new Theme("테마2", "테마 설명", "https://example.com"));
+        List<Theme> themes = themeRepository.findAll();
+
+        assertThat(themes).extracting(Theme::getName).containsExactlyInAnyOrder("테마1", "테마2");
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+}
@@ -0,0 +1,155 @@
+package roomescape.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Locale;
+import javax.sql.DataSource;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import roomescape.domain.member.Member;
+import roomescape.domain.member.MemberRepository;
+import roomescape.domain.member.Role;
+import roomescape.domain.reservation.ReservationRepository;
+import roomescape.domain.reservation.WaitingRepository;
+import roomescape.domain.reservation.detail.ReservationDetail;
+import roomescape.domain.reservation.detail.ReservationTime;
+import roomescape.domain.reservation.detail.ReservationTimeRepository;
+import roomescape.domain.reservation.detail.Theme;
+import roomescape.domain.reservation.detail.ThemeRepository;
+import roomescape.domain.reservation.dto.ReservationSearchCondition;
+import roomescape.support.statistics.SqlCaptureInspector;
+
+/*
+ * 예약, 예약 대기, 회원, 일별 통계 테이블은 데이터가 계속 쌓이므로 조회 쿼리가 전체 스캔하지 않아야 한다.
+ * 테마와 예약 시간은 개수가 적고 캐시되는 카탈로그 테이블이라 목록을 이끄는 쪽으로 스캔되는 것을 허용한다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "roomescape.support.statistics.SqlCaptureInspector")
+class QueryPlanTest {
+
+    private static final List<String> GROWING_TABLES = List.of("RESERVATION", "WAITING", "MEMBER", "THEME_DAILY_STATS");
+    private static final LocalDate DATE = LocalDate.of(2024, 4, 9);
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private WaitingRepository waitingRepository;
+
+    @Autowired
+    private ReservationTimeRepository reservationTimeRepository;
+
+    @Autowired
+    private ThemeRepository themeRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private ReservationDetail detail;
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        ReservationTime time = reservationTimeRepository.save(new ReservationTime(LocalTime.of(10, 0)));
+        Theme theme = themeRepository.save(new Theme("테마", "테마 설명", "https://example.com"));
+        member = memberRepository.save(new Member("plan@gmail.com", "password", "plan", Role.USER));
+        detail = new ReservationDetail(DATE, time, theme);
+        testEntityManager.flush();
+    }
+
+    @Test
+    @DisplayName("예약 조회 쿼리는 예약 테이블을 전체 스캔하지 않는다.")
+    void reservationQueries() {
+        Long timeId = detail.getTime().getId();
+        Long themeId = detail.getTheme().getId();
+
+        assertNoGrowingTableScan(() -> {
+            reservationRepository.existsByDetail_TimeId(timeId);
+            reservationRepository.existsByDetail_ThemeId(themeId);
+            reservationRepository.existsByDetail(detail);
+            reservationRepository.existsByDetailAndMemberId(detail, member.getId());
+            reservationRepository.findAllSlotsFrom(DATE);
+            reservationRepository.findAllSlotsByDate(DATE);
+            reservationRepository.findAllSlotsIn(List.of(DATE), List.of(timeId), List.of(themeId));
+            reservationRepository.search(new ReservationSearchCondition(member.getId(), null, null, null, null, null, 10));
+            reservationRepository.search(new ReservationSearchCondition(null, themeId, DATE, null, null, null, 10));
+            reservationRepository.search(new ReservationSearchCondition(null, null, DATE, DATE, DATE, 1L, 10));
+            reservationRepository.findMyReservations(member.getId());
+        });
+    }
+
+    @Test
+    @DisplayName("예약 대기 조회 쿼리는 예약 대기 테이블을 전체 스캔하지 않는다.")
+    void waitingQueries() {
+        Long timeId = detail.getTime().getId();
+        Long themeId = detail.getTheme().getId();
+
+        assertNoGrowingTableScan(() -> {
+            waitingRepository.existsByDetail(detail);
+            waitingRepository.existsByDetailAndMemberId(detail, member.getId());
+            waitingRepository.findWaitingDetails(DATE, DATE, 0L, Limit.of(100));
+            waitingRepository.findAllSlotsIn(List.of(DATE), List.of(timeId), List.of(themeId));
+        });
+    }
+
+    @Test
+    @DisplayName("테마와 예약 시간 조회 쿼리는 조건 컬럼의 인덱스를 사용한다.")
+    void catalogQueries() {
+        Long themeId = detail.getTheme().getId();
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(explainAll(() -> themeRepository.existsByName("테마"))).noneMatch(this::hasTableScan);
+            softly.assertThat(explainAll(() -> reservationTimeRepository.existsByStartAt(LocalTime.of(10, 0))))
+                    .noneMatch(this::hasTableScan);
+            softly.assertThat(explainAll(() -> themeRepository.findByIdForUpdate(themeId)))
+                    .noneMatch(this::hasTableScan);
+        });
+        assertNoGrowingTableScan(() -> {
+            themeRepository.findPopularThemes(DATE.minusDays(7), DATE, 10);
+            reservationTimeRepository.findAvailableReservationTimes(DATE, themeId);
+        });
+    }
+
+    private void assertNoGrowingTableScan(Runnable queries) {
+        List<String> plans = explainAll(queries);
+
+        assertThat(plans).isNotEmpty();
+        SoftAssertions.assertSoftly(softly -> plans.forEach(plan -> GROWING_TABLES.forEach(table ->
+                softly.assertThat(plan)
+                        .as("%s 테이블 전체 스캔", table)
+                        .doesNotContain("PUBLIC." + table + ".tableScan"))));
+    }
+
+    private List<String> explainAll(Runnable queries) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+        return SqlCaptureInspector.capture(queries).stream()
+                .map(String::strip)
+                .filter(sql -> sql.toLowerCase(Locale.ROOT).startsWith("select"))
+                .map(sql -> jdbcTemplate.query(
+                        connection -> connection.prepareStatement("EXPLAIN " + sql),
+                        (resultSet, rowNum) -> resultSet.getString(1)
+                ).get(0))
+                .toList();
+    }
+
+    private boolean hasTableScan(String plan) {
+        return plan.contains(".tableScan");
+    }
+}
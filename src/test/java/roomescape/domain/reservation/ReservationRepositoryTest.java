@@ -4,7 +4,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static roomescape.fixture.Fixture.DATE_1;
 import static roomescape.fixture.Fixture.MEMBER_1;
+import static roomescape.fixture.Fixture.MEMBER_2;
 import static roomescape.fixture.Fixture.RESERVATION_TIME_1;
+import static roomescape.fixture.Fixture.RESERVATION_TIME_2;
 import static roomescape.fixture.Fixture.THEME_1;
 
 import java.time.LocalDate;
@@ -14,14 +16,18 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
 import roomescape.domain.exception.DomainNotFoundException;
 import roomescape.domain.member.Member;
 import roomescape.domain.member.MemberRepository;
+import roomescape.domain.member.Role;
 import roomescape.domain.reservation.detail.ReservationDetail;
 import roomescape.domain.reservation.detail.ReservationTime;
 import roomescape.domain.reservation.detail.ReservationTimeRepository;
 import roomescape.domain.reservation.detail.Theme;
 import roomescape.domain.reservation.detail.ThemeRepository;
+import roomescape.domain.reservation.dto.MyReservationDto;
+import roomescape.domain.reservation.dto.ReservationSearchCondition;
 
 @DataJpaTest
 class ReservationRepositoryTest {
@@ -38,9 +44,12 @@ class ReservationRepositoryTest {
     @Autowired
     private MemberRepository memberRepository;
 
+    @Autowired
+    private WaitingRepository waitingRepository;
+
     @Test
     @DisplayName("회원 아이디, 테마 아이디, 시작 날짜, 종료 날짜로 예약들을 조회한다.")
-    void findAllByConditions() {
+    void search() {
         // given
         LocalDate date = LocalDate.of(2024, 5, 5);
         ReservationTime reservationTime = reservationTimeRepository.save(RESERVATION_TIME_1);
@@ -50,17 +59,56 @@ class ReservationRepositoryTest {
         Reservation savedReservation = reservationRepository.save(new Reservation(detail, member));
 
         // when
-        List<Reservation> reservations = reservationRepository.findAllByConditions(
+        List<Reservation> reservations = reservationRepository.search(new ReservationSearchCondition(
                 member.getId(),
                 theme.getId(),
                 LocalDate.of(2024, 5, 5),
-                LocalDate.of(2024, 5, 5)
-        );
+                LocalDate.of(2024, 5, 5),
+                null,
+                null,
+                10
+        ));
 
         // then
         assertThat(reservations).hasSize(1).containsExactly(savedReservation);
     }
 
+    @Test
+    @DisplayName("주어진 조건만으로 예약들을 조회하고, 날짜와 아이디 순으로 개수를 제한한다.")
+    void searchWithOnlySuppliedConditions() {
+        ReservationTime time1 = reservationTimeRepository.save(RESERVATION_TIME_1);
+        ReservationTime time2 = reservationTimeRepository.save(RESERVATION_TIME_2);
+        Theme theme = themeRepository.save(THEME_1);
+        Member member = memberRepository.save(MEMBER_1);
+        Reservation later = reservationRepository.save(
+                new Reservation(new ReservationDetail(LocalDate.of(2024, 5, 6), time1, theme), member));
+        Reservation earlier = reservationRepository.save(
+                new Reservation(new ReservationDetail(LocalDate.of(2024, 5, 5), time2, theme), member));
+        reservationRepository.save(
+                new Reservation(new ReservationDetail(LocalDate.of(2024, 5, 7), time1, theme), member));
+
+        List<Reservation> reservations = reservationRepository.search(
+                new ReservationSearchCondition(null, null, null, null, null, null, 2));
+
+        assertThat(reservations).containsExactly(earlier, later);
+    }
+
+    @Test
+    @DisplayName("같은 날짜/시간의 테마에 예약을 중복으로 저장하면 예외를 발생시킨다.")
+    void saveDuplicatedDetail() {
+        ReservationTime reservationTime = reservationTimeRepository.save(RESERVATION_TIME_1);
+        Theme theme = themeRepository.save(THEME_1);
+        Member member1 = memberRepository.save(MEMBER_1);
+        Member member2 = memberRepository.save(MEMBER_2);
+        ReservationDetail detail = new ReservationDetail(DATE_1, reservationTime, theme);
+
+        reservationRepository.saveAndFlush(new Reservation(detail, member1));
+        Reservation duplicatedReservation = new Reservation(detail, member2);
+
+        assertThatThrownBy(() -> reservationRepository.saveAndFlush(duplicatedReservation))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
     @Test
     @DisplayName("아아디로 예약을 조회한다.")
     void getById() {
@@ -90,4 +138,35 @@ class ReservationRepositoryTest {
                 .isInstanceOf(DomainNotFoundException.class)
                 .hasMessage(String.format("해당 id의 예약이 존재하지 않습니다. (id: %d)", -1L));
     }
+
+    @Test
+    @DisplayName("회원의 예약과 예약 대기를 대기 순번과 함께 날짜, 시간 순으로 조회한다.")
+    void findMyReservations() {
+        LocalDate date = LocalDate.of(2024, 5, 5);
+        ReservationTime time1 = reservationTimeRepository.save(RESERVATION_TIME_1);
+        ReservationTime time2 = reservationTimeRepository.save(RESERVATION_TIME_2);
+        Theme theme = themeRepository.save(THEME_1);
+        Member member1 = memberRepository.save(MEMBER_1);
+        Member member2 = memberRepository.save(MEMBER_2);
+        Member member3 = memberRepository.save(new Member("user3@gmail.com", "password", "user3", Role.USER));
+
+        Reservation nextDayReservation = reservationRepository.save(
+                new Reservation(new ReservationDetail(date.plusDays(1), time1, theme), member1));
+        reservationRepository.save(new Reservation(new ReservationDetail(date, time2, theme), member2));
+        waitingRepository.save(new Waiting(new ReservationDetail(date, time2, theme), member3));
+        Waiting waiting = waitingRepository.save(new Waiting(new ReservationDetail(date, time2, theme), member1));
+
+        List<MyReservationDto> myReservations = reservationRepository.findMyReservations(member1.getId());
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(myReservations).extracting(MyReservationDto::id)
+                    .containsExactly(waiting.getId(), nextDayReservation.getId());
+            softly.assertThat(myReservations).extracting(MyReservationDto::status)
+                    .containsExactly("WAITING", "RESERVED");
+            softly.assertThat(myReservations).extracting(MyReservationDto::rank)
+                    .containsExactly(2L, 0L);
+            softly.assertThat(myReservations.get(0).startAt()).isEqualTo(time2.getStartAt());
+            softly.assertThat(myReservations.get(0).themeName()).isEqualTo(theme.getName());
+        });
+    }
 }
@@ -10,10 +10,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import roomescape.domain.exception.DomainNotFoundException;
-import roomescape.domain.member.Member;
-import roomescape.domain.member.MemberRepository;
-import roomescape.domain.reservation.Reservation;
-import roomescape.domain.reservation.ReservationRepository;
+import roomescape.domain.reservation.stats.ThemeDailyStats;
+import roomescape.domain.reservation.stats.ThemeDailyStatsRepository;
 import roomescape.fixture.Fixture;
 
 @DataJpaTest
@@ -23,37 +21,24 @@ class ThemeRepositoryTest {
     private ThemeRepository themeRepository;
 
     @Autowired
-    private ReservationTimeRepository reservationTimeRepository;
-
-    @Autowired
-    private MemberRepository memberRepository;
-
-    @Autowired
-    private ReservationRepository reservationRepository;
+    private ThemeDailyStatsRepository themeDailyStatsRepository;
 
     @Test
-    @DisplayName("특정 기간 중 예약이 많은 순으로 인기 테마를 조회한다.")
+    @DisplayName("특정 기간 중 일별 예약 집계가 많은 순으로 인기 테마를 조회한다.")
     void findPopularThemes() {
         LocalDate startDate = LocalDate.of(2024, 4, 6);
         LocalDate endDate = LocalDate.of(2024, 4, 7);
         int limit = 2;
 
-        LocalDate includedDate = LocalDate.of(2024, 4, 6);
-        LocalDate excludedDate = LocalDate.of(2024, 4, 8);
-
-        Member member = memberRepository.save(Fixture.MEMBER_1);
-
         Theme theme1 = themeRepository.save(Fixture.THEME_1);
         Theme theme2 = themeRepository.save(Fixture.THEME_2);
+        Theme theme3 = themeRepository.save(new Theme("테마3", "테마3 설명", "https://example3.com"));
 
-        ReservationTime time1 = reservationTimeRepository.save(Fixture.RESERVATION_TIME_1);
-        ReservationTime time2 = reservationTimeRepository.save(Fixture.RESERVATION_TIME_2);
-
-        reservationRepository.save(new Reservation(new ReservationDetail(includedDate, time1, theme2), member));
-        reservationRepository.save(new Reservation(new ReservationDetail(includedDate, time2, theme2), member));
-        reservationRepository.save(new Reservation(new ReservationDetail(includedDate, time2, theme1), member));
-        reservationRepository.save(new Reservation(new ReservationDetail(excludedDate, time1, theme1), member));
-        reservationRepository.save(new Reservation(new ReservationDetail(excludedDate, time2, theme1), member));
+        themeDailyStatsRepository.save(new ThemeDailyStats(theme2.getId(), LocalDate.of(2024, 4, 6), 2));
+        themeDailyStatsRepository.save(new ThemeDailyStats(theme2.getId(), LocalDate.of(2024, 4, 7), 1));
+        themeDailyStatsRepository.save(new ThemeDailyStats(theme1.getId(), LocalDate.of(2024, 4, 6), 1));
+        themeDailyStatsRepository.save(new ThemeDailyStats(theme1.getId(), LocalDate.of(2024, 4, 8), 5));
+        themeDailyStatsRepository.save(new ThemeDailyStats(theme3.getId(), LocalDate.of(2024, 4, 7), 0));
 
         List<Theme> popularThemes = themeRepository.findPopularThemes(startDate, endDate, limit);
 
@@ -1,18 +1,23 @@
 package roomescape.infra;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 class BcryptPasswordEncoderTest {
 
+    private static final int COST = 4;
+
     private BcryptPasswordEncoder bcryptPasswordEncoder;
 
     @BeforeEach
     void setUp() {
-        bcryptPasswordEncoder = new BcryptPasswordEncoder();
+        bcryptPasswordEncoder = new BcryptPasswordEncoder(COST);
     }
 
     @Test
@@ -33,4 +38,28 @@ class BcryptPasswordEncoderTest {
 
         assertThat(result).isTrue();
     }
+
+    @Test
+    @DisplayName("설정한 비용 인자로 암호화된 비밀번호는 다시 암호화하지 않는다.")
+    void needsRehashWhenCostIsSame() {
+        String encodedPassword = bcryptPasswordEncoder.encode("password");
+
+        assertThat(bcryptPasswordEncoder.needsRehash(encodedPassword)).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 비용 인자로 암호화된 비밀번호는 다시 암호화해야 한다.")
+    void needsRehashWhenCostIsChanged() {
+        String encodedPassword = new BcryptPasswordEncoder(COST + 1).encode("password");
+
+        assertThat(bcryptPasswordEncoder.needsRehash(encodedPassword)).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {3, 32})
+    @DisplayName("비용 인자가 허용 범위를 벗어나면 예외를 발생시킨다.")
+    void createWithInvalidCost(int cost) {
+        assertThatThrownBy(() -> new BcryptPasswordEncoder(cost))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
 }
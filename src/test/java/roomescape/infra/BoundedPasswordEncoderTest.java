@@ -0,0 +1,134 @@
+package roomescape.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import roomescape.application.PasswordEncoder;
+import roomescape.exception.ServiceUnavailableException;
+import roomescape.exception.TooManyRequestsException;
+
+class BoundedPasswordEncoderTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final BlockingPasswordEncoder delegate = new BlockingPasswordEncoder();
+
+    private BoundedPasswordEncoder boundedPasswordEncoder;
+
+    @AfterEach
+    void tearDown() {
+        delegate.release();
+        boundedPasswordEncoder.destroy();
+    }
+
+    @Test
+    @DisplayName("해시 작업을 실행기에서 수행하고 소요 시간을 기록한다.")
+    void encode() {
+        boundedPasswordEncoder = createEncoder(Duration.ofSeconds(5));
+        delegate.release();
+
+        String encodedPassword = boundedPasswordEncoder.encode("password");
+
+        assertThat(encodedPassword).isEqualTo("encoded-password");
+        assertThat(meterRegistry.get(BoundedPasswordEncoder.METRIC_NAME)
+                .tag("operation", "encode")
+                .timer()
+                .count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 바로 예외를 발생시킨다.")
+    void rejectWhenQueueIsFull() throws InterruptedException {
+        boundedPasswordEncoder = createEncoder(Duration.ofSeconds(5));
+        CompletableFuture.runAsync(() -> boundedPasswordEncoder.encode("running"));
+        delegate.awaitStarted();
+        CompletableFuture.runAsync(() -> boundedPasswordEncoder.encode("queued"));
+        awaitQueued();
+
+        assertThatThrownBy(() -> boundedPasswordEncoder.encode("rejected"))
+                .isInstanceOf(TooManyRequestsException.class);
+        assertThat(meterRegistry.get(BoundedPasswordEncoder.REJECTED_METRIC_NAME)
+                .tag("reason", "queue_full")
+                .counter()
+                .count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기 시간 안에 해시 작업이 끝나지 않으면 예외를 발생시킨다.")
+    void rejectWhenTimeout() {
+        boundedPasswordEncoder = createEncoder(Duration.ofMillis(100));
+
+        assertThatThrownBy(() -> boundedPasswordEncoder.matches("password", "encoded-password"))
+                .isInstanceOf(ServiceUnavailableException.class);
+        assertThat(meterRegistry.get(BoundedPasswordEncoder.REJECTED_METRIC_NAME)
+                .tag("reason", "timeout")
+                .counter()
+                .count()).isEqualTo(1);
+    }
+
+    private BoundedPasswordEncoder createEncoder(Duration timeout) {
+        return new BoundedPasswordEncoder(delegate, 1, 1, timeout, meterRegistry);
+    }
+
+    private void awaitQueued() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (queuedTasks() < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private double queuedTasks() {
+        return meterRegistry.get("executor.queued")
+                .tag("name", BoundedPasswordEncoder.EXECUTOR_NAME)
+                .gauge()
+                .value();
+    }
+
+    private static class BlockingPasswordEncoder implements PasswordEncoder {
+
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch released = new CountDownLatch(1);
+
+        @Override
+        public String encode(String rawPassword) {
+            block();
+            return "encoded-" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(String rawPassword, String encodedPassword) {
+            block();
+            return encodedPassword.equals("encoded-" + rawPassword);
+        }
+
+        @Override
+        public boolean needsRehash(String encodedPassword) {
+            return false;
+        }
+
+        void awaitStarted() throws InterruptedException {
+            started.await(5, TimeUnit.SECONDS);
+        }
+
+        void release() {
+            released.countDown();
+        }
+
+        private void block() {
+            started.countDown();
+            try {
+                released.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package roomescape.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import javax.sql.DataSource;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class ConnectionHoldTimeDataSourceTest {
+
+    private static final String TRANSACTION_NAME = "roomescape.application.ReservationService.addReservation";
+
+    private SimpleMeterRegistry meterRegistry;
+    private JdbcTemplate jdbcTemplate;
+    private DataSourceTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        DataSource dataSource = new ConnectionHoldTimeDataSource(
+                new DriverManagerDataSource("jdbc:h2:mem:connection-hold;DB_CLOSE_DELAY=-1", "sa", ""),
+                () -> meterRegistry
+        );
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionManager = new DataSourceTransactionManager(dataSource);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 사용한 커넥션의 점유 시간을 트랜잭션 이름별로 기록한다.")
+    void recordHoldTimeByTransactionName() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setName(TRANSACTION_NAME);
+
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.queryForObject("SELECT 1", Integer.class));
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.queryForObject("SELECT 1", Integer.class));
+
+        Timer timer = findTimer(TRANSACTION_NAME);
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(timer).isNotNull();
+            softly.assertThat(timer.count()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서 사용한 커넥션은 트랜잭션 없음으로 기록한다.")
+    void recordHoldTimeWithoutTransaction() {
+        jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+
+        assertThat(findTimer(ConnectionHoldTimeDataSource.NON_TRANSACTIONAL).count()).isEqualTo(1);
+    }
+
+    private Timer findTimer(String transactionName) {
+        return meterRegistry.find(ConnectionHoldTimeDataSource.METRIC_NAME)
+                .tag("transaction", transactionName)
+                .timer();
+    }
+}
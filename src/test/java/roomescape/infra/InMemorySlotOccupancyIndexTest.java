@@ -0,0 +1,137 @@
+package roomescape.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import roomescape.domain.reservation.ReservationRepository;
+import roomescape.domain.reservation.dto.ReservationSlotDto;
+import roomescape.domain.reservation.event.ReservationCreatedEvent;
+import roomescape.domain.reservation.event.ReservationDeletedEvent;
+
+@ExtendWith(MockitoExtension.class)
+class InMemorySlotOccupancyIndexTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 4, 8);
+    private static final LocalDate TOMORROW = TODAY.plusDays(1);
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    private InMemorySlotOccupancyIndex slotOccupancyIndex;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(Instant.parse("2024-04-08T00:00:00Z"), ZoneOffset.UTC);
+        slotOccupancyIndex = new InMemorySlotOccupancyIndex(reservationRepository, clock, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("인덱스가 만들어지기 전에는 빈 값을 반환한다.")
+    void findOccupiedTimeIdsBeforeRebuild() {
+        assertThat(slotOccupancyIndex.findOccupiedTimeIds(TOMORROW, 1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("오늘 이후의 예약들로 인덱스를 만든다.")
+    void rebuild() {
+        given(reservationRepository.findAllSlotsFrom(TODAY)).willReturn(List.of(
+                new ReservationSlotDto(TOMORROW, 1L, 1L),
+                new ReservationSlotDto(TOMORROW, 3L, 1L),
+                new ReservationSlotDto(TOMORROW, 2L, 2L)
+        ));
+
+        slotOccupancyIndex.rebuild();
+
+        assertThat(slotOccupancyIndex.findOccupiedTimeIds(TOMORROW, 1L)).hasValue(Set.of(1L, 3L));
+    }
+
+    @Test
+    @DisplayName("인덱스가 다루지 않는 지난 날짜는 빈 값을 반환한다.")
+    void findOccupiedTimeIdsBeforeCoveredDate() {
+        given(reservationRepository.findAllSlotsFrom(TODAY)).willReturn(List.of());
+        slotOccupancyIndex.rebuild();
+
+        assertThat(slotOccupancyIndex.findOccupiedTimeIds(TODAY.minusDays(1), 1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("예약이 생성되거나 삭제되면 인덱스에 반영한다.")
+    void applyReservationEvents() {
+        given(reservationRepository.findAllSlotsFrom(TODAY)).willReturn(List.of());
+        slotOccupancyIndex.rebuild();
+
+        slotOccupancyIndex.onReservationCreated(new ReservationCreatedEvent(TOMORROW, 1L, 1L));
+        slotOccupancyIndex.onReservationCreated(new ReservationCreatedEvent(TOMORROW, 2L, 1L));
+        slotOccupancyIndex.onReservationDeleted(new ReservationDeletedEvent(TOMORROW, 1L, 1L));
+
+        assertThat(slotOccupancyIndex.findOccupiedTimeIds(TOMORROW, 1L)).hasValue(Set.of(2L));
+    }
+
+    @Test
+    @DisplayName("DB와 다른 날짜의 점유 상태를 DB 기준으로 다시 맞춘다.")
+    void reconcileDriftedDates() {
+        LocalDate dayAfterTomorrow = TOMORROW.plusDays(1);
+        given(reservationRepository.findAllSlotsFrom(TODAY)).willReturn(
+                List.of(new ReservationSlotDto(TOMORROW, 1L, 1L)),
+                List.of(new ReservationSlotDto(TOMORROW, 2L, 1L), new ReservationSlotDto(dayAfterTomorrow, 1L, 1L))
+        );
+        slotOccupancyIndex.rebuild();
+
+        int driftedCount = slotOccupancyIndex.reconcile();
+
+        assertThat(driftedCount).isEqualTo(2);
+        assertThat(slotOccupancyIndex.findOccupiedTimeIds(TOMORROW, 1L)).hasValue(Set.of(2L));
+        assertThat(slotOccupancyIndex.findOccupiedTimeIds(dayAfterTomorrow, 1L)).hasValue(Set.of(1L));
+    }
+
+    @Test
+    @DisplayName("DB와 같은 인덱스는 다시 맞출 날짜가 없다.")
+    void reconcileConsistentIndex() {
+        given(reservationRepository.findAllSlotsFrom(TODAY)).willReturn(List.of());
+        slotOccupancyIndex.rebuild();
+        given(reservationRepository.findAllSlotsFrom(TODAY)).willReturn(List.of(new ReservationSlotDto(TOMORROW, 1L, 1L)));
+        slotOccupancyIndex.onReservationCreated(new ReservationCreatedEvent(TOMORROW, 1L, 1L));
+
+        assertThat(slotOccupancyIndex.reconcile()).isZero();
+    }
+
+    @Test
+    @DisplayName("오늘 이전 날짜의 점유 상태는 인덱스에서 비운다.")
+    void reconcileEvictsPastDates() {
+        given(reservationRepository.findAllSlotsFrom(TODAY)).willReturn(List.of());
+        slotOccupancyIndex.rebuild();
+        slotOccupancyIndex.onReservationCreated(new ReservationCreatedEvent(TODAY.minusDays(1), 1L, 1L));
+
+        assertThat(slotOccupancyIndex.reconcile()).isZero();
+        assertThat(slotOccupancyIndex.findOccupiedTimeIds(TODAY.minusDays(1), 1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("DB를 읽는 동안 이벤트로 바뀐 날짜는 이전 스냅샷으로 덮어쓰지 않는다.")
+    void reconcileKeepsDatesChangedDuringSnapshot() {
+        given(reservationRepository.findAllSlotsFrom(TODAY)).willReturn(List.of(new ReservationSlotDto(TOMORROW, 1L, 1L)));
+        slotOccupancyIndex.rebuild();
+        given(reservationRepository.findAllSlotsFrom(TODAY)).willAnswer(invocation -> {
+            slotOccupancyIndex.onReservationCreated(new ReservationCreatedEvent(TOMORROW, 2L, 1L));
+            return List.of();
+        });
+
+        int driftedCount = slotOccupancyIndex.reconcile();
+
+        assertThat(driftedCount).isZero();
+        assertThat(slotOccupancyIndex.findOccupiedTimeIds(TOMORROW, 1L)).hasValue(Set.of(1L, 2L));
+    }
+}
@@ -4,21 +4,32 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.Jwts.SIG;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Date;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
+import roomescape.application.TokenPayload;
+import roomescape.domain.member.Role;
 import roomescape.exception.TokenException;
 
 class JwtTokenProviderTest {
 
     private final String testKey = "woowacourse-6th-abcdefg-123456-abcdefg-123456";
-    private final JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(testKey, 3600000);
+    private final InMemoryTokenRevocationList tokenRevocationList = new InMemoryTokenRevocationList(3600000);
+    private final JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(testKey, 3600000, tokenRevocationList);
+    private final TokenPayload payload = new TokenPayload(1L, "admin@gmail.com", "어드민", Role.ADMIN);
 
     @Test
     @DisplayName("토큰을 생성한다.")
     void createToken() {
-        String token = jwtTokenProvider.createToken("1");
+        String token = jwtTokenProvider.createToken(payload);
 
         assertThatCode(() -> jwtTokenProvider.getMemberId(token))
                 .doesNotThrowAnyException();
@@ -27,13 +38,95 @@ class JwtTokenProviderTest {
     @Test
     @DisplayName("토큰에서 멤버 아이디를 가져온다.")
     void getMemberId() {
-        String token = jwtTokenProvider.createToken("1");
+        String token = jwtTokenProvider.createToken(payload);
 
         Long memberId = jwtTokenProvider.getMemberId(token);
 
         assertThat(memberId).isEqualTo(1L);
     }
 
+    @Test
+    @DisplayName("토큰에서 회원 아이디, 이메일, 이름, 역할을 가져온다.")
+    void getPayload() {
+        String token = jwtTokenProvider.createToken(payload);
+
+        TokenPayload tokenPayload = jwtTokenProvider.getPayload(token);
+
+        assertThat(tokenPayload).isEqualTo(payload);
+    }
+
+    @Test
+    @DisplayName("토큰에 회원 정보 클레임이 없으면 예외를 발생시킨다.")
+    void getPayloadWhenClaimsAreMissing() {
+        String token = Jwts.builder()
+                .subject("1")
+                .signWith(Keys.hmacShaKeyFor(testKey.getBytes(StandardCharsets.UTF_8)), SIG.HS256)
+                .compact();
+
+        assertThatThrownBy(() -> jwtTokenProvider.getPayload(token))
+                .isInstanceOf(TokenException.class)
+                .hasMessage("유효하지 않은 토큰입니다.");
+    }
+
+    @Test
+    @DisplayName("검증된 토큰과 서명만 다른 토큰은 캐시되지 않고 예외를 발생시킨다.")
+    void getMemberIdWhenSignatureIsTamperedAfterVerified() {
+        String token = jwtTokenProvider.createToken(payload);
+        jwtTokenProvider.getMemberId(token);
+        String tamperedToken = token.substring(0, token.lastIndexOf('.') + 1) + "tampered";
+
+        assertThatThrownBy(() -> jwtTokenProvider.getMemberId(tamperedToken))
+                .isInstanceOf(TokenException.class)
+                .hasMessage("유효하지 않은 토큰입니다.");
+    }
+
+    @Test
+    @DisplayName("폐기된 회원의 토큰은 이미 검증된 토큰이어도 예외를 발생시킨다.")
+    void getPayloadWhenRevoked() {
+        String token = jwtTokenProvider.createToken(payload);
+        jwtTokenProvider.getPayload(token);
+
+        tokenRevocationList.revoke(payload.memberId());
+
+        assertThatThrownBy(() -> jwtTokenProvider.getPayload(token))
+                .isInstanceOf(TokenException.class)
+                .hasMessage("회원 정보가 변경되었습니다. 다시 로그인해주세요.");
+    }
+
+    @Test
+    @DisplayName("폐기 직후 새로 발급한 토큰은 폐기와 같은 초에 발급되어도 사용할 수 있다.")
+    void getPayloadWhenIssuedRightAfterRevocation() {
+        Clock revokedClock = Clock.offset(Clock.systemUTC(), Duration.ofMillis(-1));
+        InMemoryTokenRevocationList revocationList = new InMemoryTokenRevocationList(3600000, revokedClock);
+        JwtTokenProvider tokenProvider = new JwtTokenProvider(testKey, 3600000, revocationList);
+
+        revocationList.revoke(payload.memberId());
+        String token = tokenProvider.createToken(payload);
+
+        assertThat(tokenProvider.getPayload(token)).isEqualTo(payload);
+    }
+
+    @Test
+    @DisplayName("밀리초 발급 시각이 없는 토큰은 초 단위 발급 시각으로 폐기 여부를 판단한다.")
+    void getPayloadWhenIssuedAtMillisIsMissing() {
+        Date issuedAt = new Date(System.currentTimeMillis() - 2000);
+        String token = Jwts.builder()
+                .subject(payload.memberId().toString())
+                .claim("email", payload.email())
+                .claim("name", payload.name())
+                .claim("role", payload.role().name())
+                .issuedAt(issuedAt)
+                .expiration(new Date(issuedAt.getTime() + 3600000))
+                .signWith(Keys.hmacShaKeyFor(testKey.getBytes(StandardCharsets.UTF_8)), SIG.HS256)
+                .compact();
+
+        tokenRevocationList.revoke(payload.memberId());
+
+        assertThatThrownBy(() -> jwtTokenProvider.getPayload(token))
+                .isInstanceOf(TokenException.class)
+                .hasMessage("회원 정보가 변경되었습니다. 다시 로그인해주세요.");
+    }
+
     @ParameterizedTest
     @NullAndEmptySource
     @DisplayName("토큰에서 멤버 아이디를 가져올 때, 토큰이 비어있으면 예외를 발생시킨다.")
@@ -47,8 +140,8 @@ class JwtTokenProviderTest {
     @Test
     @DisplayName("토큰에서 멤버 아이디를 가져올 때, 토큰이 만료되었으면 예외를 발생시킨다.")
     void getMemberIdWhenTokenIsExpired() {
-        JwtTokenProvider expiredJwtTokenProvider = new JwtTokenProvider(testKey, 0);
-        String token = expiredJwtTokenProvider.createToken("1");
+        JwtTokenProvider expiredJwtTokenProvider = new JwtTokenProvider(testKey, 0, tokenRevocationList);
+        String token = expiredJwtTokenProvider.createToken(payload);
 
         assertThatThrownBy(() -> expiredJwtTokenProvider.getMemberId(token))
                 .isInstanceOf(TokenException.class)
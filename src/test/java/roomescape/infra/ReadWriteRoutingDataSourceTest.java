@@ -0,0 +1,121 @@
+package roomescape.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class ReadWriteRoutingDataSourceTest {
+
+    private static final DataSource PRIMARY = createDatabase("routing-primary");
+    private static final DataSource REPLICA = createDatabase("routing-replica");
+
+    @BeforeAll
+    static void setUp() {
+        markDatabase(PRIMARY, ReadWriteRoutingDataSource.PRIMARY);
+        markDatabase(REPLICA, ReadWriteRoutingDataSource.REPLICA);
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 레플리카에서 실행된다.")
+    void routeReadOnlyTransactionToReplica() {
+        RoutingFixture fixture = new RoutingFixture(Duration.ZERO);
+
+        assertThat(fixture.readInTransaction(true)).isEqualTo(ReadWriteRoutingDataSource.REPLICA);
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션은 프라이머리에서 실행된다.")
+    void routeReadWriteTransactionToPrimary() {
+        RoutingFixture fixture = new RoutingFixture(Duration.ZERO);
+
+        assertThat(fixture.readInTransaction(false)).isEqualTo(ReadWriteRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖의 쿼리는 프라이머리에서 실행된다.")
+    void routeNonTransactionalQueryToPrimary() {
+        RoutingFixture fixture = new RoutingFixture(Duration.ZERO);
+
+        assertThat(fixture.read()).isEqualTo(ReadWriteRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("쓰기를 커밋한 세션의 읽기 전용 트랜잭션은 지연 허용 시간 동안 프라이머리에서 실행된다.")
+    void routeReadOnlyTransactionToPrimaryWithinReplicaLag() {
+        RoutingFixture fixture = new RoutingFixture(Duration.ofMinutes(1));
+
+        String beforeWrite = fixture.readInTransaction("writer", true);
+        fixture.readInTransaction("writer", false);
+        String afterWrite = fixture.readInTransaction("writer", true);
+
+        assertThat(beforeWrite).isEqualTo(ReadWriteRoutingDataSource.REPLICA);
+        assertThat(afterWrite).isEqualTo(ReadWriteRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("다른 세션의 쓰기 커밋은 읽기 전용 트랜잭션의 레플리카 사용을 막지 않는다.")
+    void routeOtherSessionReadOnlyTransactionToReplica() {
+        RoutingFixture fixture = new RoutingFixture(Duration.ofMinutes(1));
+
+        fixture.readInTransaction("writer", false);
+
+        assertThat(fixture.readInTransaction("reader", true)).isEqualTo(ReadWriteRoutingDataSource.REPLICA);
+        assertThat(fixture.readInTransaction(true)).isEqualTo(ReadWriteRoutingDataSource.REPLICA);
+    }
+
+    private static DataSource createDatabase(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+
+    private static void markDatabase(DataSource dataSource, String name) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS routing_marker (name VARCHAR(20))");
+        jdbcTemplate.update("DELETE FROM routing_marker");
+        jdbcTemplate.update("INSERT INTO routing_marker (name) VALUES (?)", name);
+    }
+
+    private static class RoutingFixture {
+
+        private final ReadYourWritesTracker readYourWritesTracker;
+        private final JdbcTemplate jdbcTemplate;
+        private final DataSourceTransactionManager transactionManager;
+
+        RoutingFixture(Duration replicaLagTolerance) {
+            this.readYourWritesTracker = new ReadYourWritesTracker(replicaLagTolerance, 100);
+            DataSource dataSource = new LazyConnectionDataSourceProxy(
+                    new ReadWriteRoutingDataSource(PRIMARY, REPLICA, readYourWritesTracker));
+
+            this.jdbcTemplate = new JdbcTemplate(dataSource);
+            this.transactionManager = new DataSourceTransactionManager(dataSource);
+        }
+
+        String readInTransaction(boolean readOnly) {
+            TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+            transactionTemplate.setReadOnly(readOnly);
+
+            return transactionTemplate.execute(status -> read());
+        }
+
+        String readInTransaction(String session, boolean readOnly) {
+            readYourWritesTracker.bind(session);
+            try {
+                return readInTransaction(readOnly);
+            } finally {
+                readYourWritesTracker.unbind();
+            }
+        }
+
+        String read() {
+            return jdbcTemplate.queryForObject("SELECT name FROM routing_marker", String.class);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package roomescape.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import roomescape.exception.TooManyRequestsException;
+
+class SlidingWindowLoginAttemptLimiterTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SlidingWindowLoginAttemptLimiter limiter = new SlidingWindowLoginAttemptLimiter(
+            2,
+            3,
+            Duration.ofMinutes(1),
+            4,
+            100,
+            Clock.fixed(Instant.parse("2024-04-08T00:00:30Z"), ZoneOffset.UTC),
+            meterRegistry
+    );
+
+    @Test
+    @DisplayName("같은 이메일로 허용 횟수를 넘게 시도하면 IP가 달라도 거절한다.")
+    void throttleByEmail() {
+        limiter.acquire("ex@gmail.com", "10.0.0.1");
+        limiter.acquire("EX@gmail.com", "10.0.0.2");
+
+        assertThatThrownBy(() -> limiter.acquire("ex@gmail.com", "10.0.0.3"))
+                .isInstanceOf(TooManyRequestsException.class)
+                .extracting(e -> ((TooManyRequestsException) e).getRetryAfter())
+                .isEqualTo(Duration.ofSeconds(30));
+        assertThat(attemptCount("throttled_email")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 IP에서 허용 횟수를 넘게 시도하면 이메일이 달라도 거절한다.")
+    void throttleByIp() {
+        limiter.acquire("user1@gmail.com", "10.0.0.1");
+        limiter.acquire("user2@gmail.com", "10.0.0.1");
+        limiter.acquire("user3@gmail.com", "10.0.0.1");
+
+        assertThatThrownBy(() -> limiter.acquire("user4@gmail.com", "10.0.0.1"))
+                .isInstanceOf(TooManyRequestsException.class);
+        assertThat(attemptCount("throttled_ip")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("허용 횟수 안의 시도는 통과시킨다.")
+    void allow() {
+        assertThatCode(() -> limiter.acquire("ex@gmail.com", "10.0.0.1"))
+                .doesNotThrowAnyException();
+        assertThat(attemptCount("allowed")).isEqualTo(1);
+    }
+
+    private double attemptCount(String result) {
+        return meterRegistry.get(SlidingWindowLoginAttemptLimiter.METRIC_NAME)
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+}
@@ -0,0 +1,118 @@
+package roomescape.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.stream.IntStream;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SlidingWindowRateLimiterTest {
+
+    private static final Duration WINDOW = Duration.ofMinutes(1);
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-04-08T00:00:00Z"));
+
+    @Test
+    @DisplayName("구간 안에서 허용 횟수를 넘으면 거절한다.")
+    void rejectOverLimit() {
+        SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(3, WINDOW, 4, 100, clock);
+
+        boolean[] results = acquire(limiter, "ex@gmail.com", 4);
+
+        assertThat(results).containsExactly(true, true, true, false);
+    }
+
+    @Test
+    @DisplayName("키마다 따로 횟수를 센다.")
+    void countPerKey() {
+        SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(1, WINDOW, 4, 100, clock);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(limiter.tryAcquire("user1@gmail.com")).isTrue();
+            softly.assertThat(limiter.tryAcquire("user2@gmail.com")).isTrue();
+            softly.assertThat(limiter.tryAcquire("user1@gmail.com")).isFalse();
+        });
+    }
+
+    @Test
+    @DisplayName("다음 구간 초반에는 직전 구간의 시도가 겹치는 비율만큼 남아 있다.")
+    void slideWindow() {
+        SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(4, WINDOW, 4, 100, clock);
+        acquire(limiter, "ex@gmail.com", 4);
+
+        clock.advance(WINDOW.plusSeconds(15));
+        boolean[] quarterPassed = acquire(limiter, "ex@gmail.com", 2);
+
+        clock.advance(Duration.ofSeconds(45));
+        boolean nextWindow = limiter.tryAcquire("ex@gmail.com");
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(quarterPassed).containsExactly(true, false);
+            softly.assertThat(nextWindow).isTrue();
+        });
+    }
+
+    @Test
+    @DisplayName("두 구간 넘게 쓰이지 않은 키는 정리한다.")
+    void evictIdleKeys() {
+        SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(1, WINDOW, 1, 100, clock);
+        limiter.tryAcquire("user1@gmail.com");
+
+        clock.advance(WINDOW.multipliedBy(3));
+        limiter.tryAcquire("user2@gmail.com");
+
+        assertThat(limiter.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("키 개수가 최대치를 넘으면 가장 오래 쓰이지 않은 키부터 내보낸다.")
+    void boundKeys() {
+        SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(1, WINDOW, 1, 10, clock);
+
+        IntStream.range(0, 100).forEach(i -> limiter.tryAcquire("user" + i + "@gmail.com"));
+
+        assertThat(limiter.size()).isEqualTo(10);
+    }
+
+    private boolean[] acquire(SlidingWindowRateLimiter limiter, String key, int count) {
+        boolean[] results = new boolean[count];
+        for (int i = 0; i < count; i++) {
+            results[i] = limiter.tryAcquire(key);
+        }
+        return results;
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package roomescape.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+import roomescape.domain.reservation.detail.ReservationDetail;
+import roomescape.domain.reservation.detail.ReservationTime;
+import roomescape.domain.reservation.detail.Theme;
+
+class StripedReservationSlotLockTest {
+
+    private final StripedReservationSlotLock slotLock = new StripedReservationSlotLock(64);
+    private final Theme theme = new Theme(1L, "테마1", "테마1 설명", "https://example1.com");
+    private final ReservationTime time1 = new ReservationTime(1L, LocalTime.of(10, 0));
+    private final ReservationTime time2 = new ReservationTime(2L, LocalTime.of(12, 0));
+    private final LocalDate date = LocalDate.of(2024, 4, 9);
+
+    private ExecutorService executorService;
+
+    @BeforeEach
+    void setUp() {
+        executorService = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            completeTransaction();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 슬롯의 락은 먼저 획득한 트랜잭션이 끝날 때까지 기다린다.")
+    void blockSameSlotUntilTransactionCompletes() throws InterruptedException {
+        ReservationDetail detail = new ReservationDetail(date, time1, theme);
+        CountDownLatch acquired = new CountDownLatch(1);
+
+        beginTransaction();
+        slotLock.lockForTransaction(detail);
+
+        executorService.submit(() -> runInTransaction(() -> {
+            slotLock.lockForTransaction(new ReservationDetail(date, time1, theme));
+            acquired.countDown();
+        }));
+
+        assertThat(acquired.await(200, TimeUnit.MILLISECONDS)).isFalse();
+
+        completeTransaction();
+
+        assertThat(acquired.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("다른 슬롯의 락은 서로를 기다리지 않는다.")
+    void doNotBlockDifferentSlot() throws InterruptedException {
+        CountDownLatch acquired = new CountDownLatch(1);
+
+        beginTransaction();
+        slotLock.lockForTransaction(new ReservationDetail(date, time1, theme));
+
+        executorService.submit(() -> runInTransaction(() -> {
+            slotLock.lockForTransaction(new ReservationDetail(date, time2, theme));
+            acquired.countDown();
+        }));
+
+        assertThat(acquired.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서 락을 획득하면 예외를 발생시킨다.")
+    void failWhenTransactionNotActive() {
+        ReservationDetail detail = new ReservationDetail(date, time1, theme);
+
+        assertThatThrownBy(() -> slotLock.lockForTransaction(detail))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("예약 슬롯 락은 트랜잭션 안에서만 획득할 수 있습니다.");
+    }
+
+    @Test
+    @DisplayName("락 스트라이프 개수가 1보다 작으면 예외를 발생시킨다.")
+    void failWhenStripeCountIsNotPositive() {
+        assertThatThrownBy(() -> new StripedReservationSlotLock(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("락 스트라이프 개수는 1 이상이어야 합니다.");
+    }
+
+    private void runInTransaction(Runnable runnable) {
+        beginTransaction();
+        try {
+            runnable.run();
+        } finally {
+            completeTransaction();
+        }
+    }
+
+    private void beginTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    private void completeTransaction() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationUtils.invokeAfterCompletion(
+                synchronizations,
+                TransactionSynchronization.STATUS_COMMITTED
+        );
+    }
+}
@@ -0,0 +1,98 @@
+package roomescape.presentation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import jakarta.persistence.EntityManagerFactory;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.TestPropertySource;
+import roomescape.application.TokenPayload;
+import roomescape.application.dto.request.MemberRoleRequest;
+import roomescape.domain.member.Member;
+import roomescape.domain.member.MemberRepository;
+import roomescape.domain.member.Role;
+import roomescape.support.statistics.QueryCounter;
+
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class AuthInterceptorTest extends BaseControllerTest {
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Member admin;
+    private String adminToken;
+
+    @BeforeEach
+    void setUp() {
+        admin = memberRepository.save(new Member("admin@gmail.com", "password", "어드민", Role.ADMIN));
+        adminToken = tokenProvider.createToken(TokenPayload.from(admin));
+    }
+
+    @Test
+    @DisplayName("어드민 권한은 캐시된 회원 역할로 확인하므로 반복 요청에서는 회원을 조회하지 않는다.")
+    void authorizeAdminWithoutMemberLookup() {
+        QueryCounter queryCounter = new QueryCounter(entityManagerFactory);
+        requestAdminPage(adminToken);
+
+        long queryCount = queryCounter.count(() -> RestAssured.given().log().all()
+                .cookie("token", adminToken)
+                .when().get("/admin")
+                .then().log().all()
+                .statusCode(HttpStatus.OK.value()));
+
+        assertThat(queryCount).isZero();
+    }
+
+    @Test
+    @DisplayName("어드민에서 일반 회원으로 바뀌면 기존 토큰은 즉시 거부되고, 다시 발급한 토큰은 403을 받는다.")
+    void rejectDemotedAdminImmediately() {
+        Member otherAdmin = memberRepository.save(new Member("other@gmail.com", "password", "다른 어드민", Role.ADMIN));
+        String otherAdminToken = tokenProvider.createToken(TokenPayload.from(otherAdmin));
+
+        RestAssured.given().log().all()
+                .cookie("token", otherAdminToken)
+                .contentType(ContentType.JSON)
+                .body(new MemberRoleRequest(Role.USER))
+                .when().patch("/admin/members/" + admin.getId() + "/role")
+                .then().log().all()
+                .statusCode(HttpStatus.OK.value());
+
+        int oldTokenStatus = requestAdminPage(adminToken);
+        String reissuedToken = tokenProvider.createToken(TokenPayload.from(memberRepository.getById(admin.getId())));
+        int reissuedTokenStatus = requestAdminPage(reissuedToken);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(oldTokenStatus).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+            softly.assertThat(reissuedTokenStatus).isEqualTo(HttpStatus.FORBIDDEN.value());
+        });
+    }
+
+    @Test
+    @DisplayName("폐기 목록에 없어도 DB의 역할이 바뀐 어드민 토큰은 거부한다.")
+    void rejectAdminTokenWhenRoleChangedElsewhere() {
+        // 다른 인스턴스에서 강등되었거나 재시작으로 폐기 목록이 비어 있는 상황이다.
+        Member demoted = memberRepository.getById(admin.getId());
+        demoted.changeRole(Role.USER);
+        memberRepository.save(demoted);
+
+        assertThat(requestAdminPage(adminToken)).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+    }
+
+    private int requestAdminPage(String token) {
+        return RestAssured.given().log().all()
+                .cookie("token", token)
+                .when().get("/admin")
+                .then().log().all()
+                .extract()
+                .statusCode();
+    }
+}
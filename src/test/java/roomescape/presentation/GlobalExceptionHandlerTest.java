@@ -4,6 +4,7 @@ import static org.mockito.Mockito.doThrow;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -20,6 +21,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
@@ -31,7 +33,9 @@ import org.springframework.web.bind.annotation.RequestBody;
 import roomescape.domain.exception.DomainValidationException;
 import roomescape.exception.AccessDeniedException;
 import roomescape.exception.BadRequestException;
+import roomescape.exception.ServiceUnavailableException;
 import roomescape.exception.TokenException;
+import roomescape.exception.TooManyRequestsException;
 import roomescape.exception.UnauthorizedException;
 import roomescape.presentation.GlobalExceptionHandlerTest.TestController;
 import roomescape.presentation.GlobalExceptionHandlerTest.TestController.TestRequest;
@@ -169,6 +173,32 @@ class GlobalExceptionHandlerTest {
                 .andExpect(jsonPath("$.message").value(message));
     }
 
+    @Test
+    @DisplayName("요청이 몰려 대기열이 가득 찬 경우 재시도 시간과 함께 예외를 처리한다.")
+    void handleTooManyRequestsException() throws Exception {
+        String message = "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.";
+        doThrow(new TooManyRequestsException(message)).when(testController).get();
+
+        mockMvc.perform(get(EXCEPTION_URL))
+                .andDo(print())
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER))
+                .andExpect(jsonPath("$.message").value(message));
+    }
+
+    @Test
+    @DisplayName("처리 대기 시간이 초과된 경우 재시도 시간과 함께 예외를 처리한다.")
+    void handleServiceUnavailableException() throws Exception {
+        String message = "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.";
+        doThrow(new ServiceUnavailableException(message)).when(testController).get();
+
+        mockMvc.perform(get(EXCEPTION_URL))
+                .andDo(print())
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER))
+                .andExpect(jsonPath("$.message").value(message));
+    }
+
     @ParameterizedTest
     @ValueSource(classes = {
             RuntimeException.class,
@@ -0,0 +1,17 @@
+package roomescape.presentation;
+
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = "spring.threads.virtual.enabled=false")
+class PlatformThreadBenchmarkTest extends RequestThreadBenchmark {
+
+    @Override
+    protected String mode() {
+        return "platform-threads";
+    }
+
+    @Override
+    protected boolean usesVirtualThreads() {
+        return false;
+    }
+}
@@ -0,0 +1,137 @@
+package roomescape.presentation;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.stream.IntStream;
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import roomescape.application.TokenPayload;
+import roomescape.domain.member.Member;
+import roomescape.domain.member.MemberRepository;
+import roomescape.domain.member.Role;
+import roomescape.domain.reservation.Reservation;
+import roomescape.domain.reservation.ReservationRepository;
+import roomescape.domain.reservation.detail.ReservationDetail;
+import roomescape.domain.reservation.detail.ReservationTime;
+import roomescape.domain.reservation.detail.ReservationTimeRepository;
+import roomescape.domain.reservation.detail.Theme;
+import roomescape.domain.reservation.detail.ThemeRepository;
+import roomescape.support.performance.ConcurrentLoadRunner;
+import roomescape.support.performance.LoadResult;
+
+// 요청 처리 스레드 모델만 다르게 띄운 두 컨텍스트에 같은 부하를 주어 결과를 비교한다.
+@Tag("performance")
+abstract class RequestThreadBenchmark extends BaseControllerTest {
+
+    private static final int CLIENT_COUNT = 1_000;
+    private static final int REQUEST_COUNT = 20_000;
+    private static final int MEMBER_COUNT = 100;
+    private static final LocalDate DATE = LocalDate.of(2024, 4, 9);
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .build();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ServletWebServerApplicationContext applicationContext;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private ThemeRepository themeRepository;
+
+    @Autowired
+    private ReservationTimeRepository reservationTimeRepository;
+
+    private List<String> tokens;
+
+    protected abstract String mode();
+
+    protected abstract boolean usesVirtualThreads();
+
+    @BeforeEach
+    void setUp() {
+        Theme theme = themeRepository.save(new Theme("테마1", "테마1 설명", "https://example1.com"));
+        ReservationTime time = reservationTimeRepository.save(new ReservationTime(LocalTime.of(10, 0)));
+
+        tokens = IntStream.range(0, MEMBER_COUNT)
+                .mapToObj(i -> {
+                    Member member = memberRepository.save(
+                            new Member("thread" + i + "@gmail.com", "password", "user" + i, Role.USER));
+                    reservationRepository.save(
+                            new Reservation(new ReservationDetail(DATE.plusDays(i), time, theme), member));
+                    return tokenProvider.createToken(TokenPayload.from(member));
+                })
+                .toList();
+    }
+
+    @Test
+    @DisplayName("동시 접속 클라이언트가 많아도 JDBC를 기다리는 요청과 캐시로 응답하는 요청이 모두 처리된다.")
+    void serveConcurrentClients() throws InterruptedException {
+        ConcurrentLoadRunner runner = new ConcurrentLoadRunner(CLIENT_COUNT);
+
+        // 짝수 요청은 내 예약 조회로 DB 커넥션을 기다리고, 홀수 요청은 캐시된 테마 목록으로 바로 응답한다.
+        LoadResult result = runner.run(mode() + "/mixed", REQUEST_COUNT, index -> {
+            if (index % 2 == 0) {
+                send("/reservations/mine", tokens.get(index % MEMBER_COUNT));
+                return;
+            }
+            send("/themes", null);
+        });
+
+        System.out.println(result.report());
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(result.successCount()).isEqualTo(REQUEST_COUNT);
+            softly.assertThat(requestExecutor() instanceof VirtualThreadExecutor).isEqualTo(usesVirtualThreads());
+        });
+    }
+
+    private void send(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).GET();
+        if (token != null) {
+            builder.header("Cookie", "token=" + token);
+        }
+
+        try {
+            HttpResponse<Void> response = httpClient.send(builder.build(), BodyHandlers.discarding());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException(path + " 요청이 " + response.statusCode() + " 로 실패했습니다.");
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Executor requestExecutor() {
+        TomcatWebServer webServer = (TomcatWebServer) applicationContext.getWebServer();
+
+        return webServer.getTomcat().getConnector().getProtocolHandler().getExecutor();
+    }
+}
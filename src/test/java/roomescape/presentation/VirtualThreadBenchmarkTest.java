@@ -0,0 +1,17 @@
+package roomescape.presentation;
+
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = "spring.threads.virtual.enabled=true")
+class VirtualThreadBenchmarkTest extends RequestThreadBenchmark {
+
+    @Override
+    protected String mode() {
+        return "virtual-threads";
+    }
+
+    @Override
+    protected boolean usesVirtualThreads() {
+        return true;
+    }
+}
@@ -0,0 +1,162 @@
+package roomescape.presentation.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.TestPropertySource;
+import roomescape.application.ThemeService;
+import roomescape.application.dto.request.ThemeRequest;
+import roomescape.domain.member.Member;
+import roomescape.domain.member.MemberRepository;
+import roomescape.domain.member.Role;
+import roomescape.domain.reservation.Reservation;
+import roomescape.domain.reservation.ReservationRepository;
+import roomescape.domain.reservation.detail.ReservationDetail;
+import roomescape.domain.reservation.detail.ReservationTime;
+import roomescape.domain.reservation.detail.ReservationTimeRepository;
+import roomescape.domain.reservation.detail.Theme;
+import roomescape.domain.reservation.detail.ThemeRepository;
+import roomescape.presentation.BaseControllerTest;
+import roomescape.support.statistics.QueryCounter;
+
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class CatalogConditionalGetTest extends BaseControllerTest {
+
+    private static final String POPULAR_THEMES_URL = "/themes/popular?startDate=2024-04-01&endDate=2024-04-07";
+
+    @Autowired
+    private ThemeService themeService;
+
+    @Autowired
+    private ThemeRepository themeRepository;
+
+    @Autowired
+    private ReservationTimeRepository reservationTimeRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Theme theme;
+    private ReservationTime time;
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        theme = themeRepository.save(new Theme("테마 이름", "테마 설명", "https://example.com/image.jpg"));
+        time = reservationTimeRepository.save(new ReservationTime(LocalTime.of(10, 0)));
+        member = memberRepository.save(new Member("ex@gmail.com", "password", "구름", Role.USER));
+    }
+
+    @Test
+    @DisplayName("버전 태그와 공유 캐시용 Cache-Control 헤더를 함께 응답한다.")
+    void respondWithETagAndCacheControl() {
+        ExtractableResponse<Response> response = get("/themes", null);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+            softly.assertThat(response.header(HttpHeaders.ETAG)).isNotBlank();
+            softly.assertThat(response.header(HttpHeaders.CACHE_CONTROL)).contains("public", "s-maxage=10");
+        });
+    }
+
+    @Test
+    @DisplayName("ETag가 일치하면 DB를 조회하지 않고 304를 반환한다.")
+    void notModifiedWithoutQuery() {
+        String eTag = get(POPULAR_THEMES_URL, null).header(HttpHeaders.ETAG);
+        QueryCounter queryCounter = new QueryCounter(entityManagerFactory);
+
+        long queryCount = queryCounter.count(() -> assertThat(get(POPULAR_THEMES_URL, eTag).statusCode())
+                .isEqualTo(HttpStatus.NOT_MODIFIED.value()));
+
+        assertThat(queryCount).isZero();
+    }
+
+    @Test
+    @DisplayName("테마가 추가되면 테마 목록의 ETag가 바뀐다.")
+    void changeThemesETagWhenThemeAdded() {
+        String eTag = get("/themes", null).header(HttpHeaders.ETAG);
+
+        themeService.addTheme(new ThemeRequest("새 테마", "새 테마 설명", "https://example.com/new.jpg"));
+        ExtractableResponse<Response> response = get("/themes", eTag);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+            softly.assertThat(response.header(HttpHeaders.ETAG)).isNotEqualTo(eTag);
+            softly.assertThat(response.jsonPath().getList(".")).hasSize(2);
+        });
+    }
+
+    @Test
+    @DisplayName("예약이 생기면 인기 테마의 ETag가 바뀐다.")
+    void changePopularThemesETagWhenReserved() {
+        String eTag = get(POPULAR_THEMES_URL, null).header(HttpHeaders.ETAG);
+
+        reservationRepository.save(
+                new Reservation(new ReservationDetail(LocalDate.of(2024, 4, 6), time, theme), member));
+        ExtractableResponse<Response> response = get(POPULAR_THEMES_URL, eTag);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+            softly.assertThat(response.header(HttpHeaders.ETAG)).isNotEqualTo(eTag);
+            softly.assertThat(response.jsonPath().getList(".")).hasSize(1);
+        });
+    }
+
+    @Test
+    @DisplayName("오늘 이후의 예약은 어제까지의 인기 테마 ETag를 바꾸지 않는다.")
+    void keepPopularThemesETagWhenReservedFromToday() {
+        String eTag = get(POPULAR_THEMES_URL, null).header(HttpHeaders.ETAG);
+
+        reservationRepository.save(
+                new Reservation(new ReservationDetail(LocalDate.of(2024, 4, 8), time, theme), member));
+        ExtractableResponse<Response> response = get(POPULAR_THEMES_URL, eTag);
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+    }
+
+    @Test
+    @DisplayName("오늘을 포함한 기간의 인기 테마 ETag는 오늘 예약이 생기면 바뀐다.")
+    void changePopularThemesETagIncludingTodayWhenReserved() {
+        String url = "/themes/popular?startDate=2024-04-01&endDate=2024-04-08";
+        String eTag = get(url, null).header(HttpHeaders.ETAG);
+
+        reservationRepository.save(
+                new Reservation(new ReservationDetail(LocalDate.of(2024, 4, 8), time, theme), member));
+        ExtractableResponse<Response> response = get(url, eTag);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+            softly.assertThat(response.header(HttpHeaders.ETAG)).isNotEqualTo(eTag);
+        });
+    }
+
+    private ExtractableResponse<Response> get(String url, String ifNoneMatch) {
+        RequestSpecification request = RestAssured.given().log().all();
+        if (ifNoneMatch != null) {
+            request.header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+
+        return request.when().get(url)
+                .then().log().all()
+                .extract();
+    }
+}
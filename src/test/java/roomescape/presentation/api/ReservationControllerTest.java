@@ -13,6 +13,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import roomescape.application.TokenPayload;
 import roomescape.application.dto.response.MemberResponse;
 import roomescape.application.dto.response.MyReservationResponse;
 import roomescape.application.dto.response.ReservationResponse;
@@ -67,10 +68,10 @@ class ReservationControllerTest extends BaseControllerTest {
 
         Reservation reservation = reservationRepository
                 .save(new Reservation(new ReservationDetail(date, time1, theme1), user1));
-        reservationRepository.save(new Reservation(new ReservationDetail(date, time1, theme1), user2));
+        reservationRepository.save(new Reservation(new ReservationDetail(date, time2, theme1), user2));
         Waiting waiting = waitingRepository.save(new Waiting(new ReservationDetail(date, time2, theme1), user1));
 
-        String token = tokenProvider.createToken(user1.getId().toString());
+        String token = tokenProvider.createToken(TokenPayload.from(user1));
         ExtractableResponse<Response> response = RestAssured.given().log().all()
                 .cookie("token", token)
                 .when().get("/reservations/mine")
@@ -102,13 +103,14 @@ class ReservationControllerTest extends BaseControllerTest {
         @DisplayName("성공할 경우 201을 반환한다.")
         void addReservation() {
             Member user = memberRepository.save(Fixture.MEMBER_USER);
-            String token = tokenProvider.createToken(user.getId().toString());
+            String token = tokenProvider.createToken(TokenPayload.from(user));
 
             // given
             ReservationTime time = reservationTimeRepository.save(Fixture.RESERVATION_TIME_1);
             Theme theme = themeRepository.save(Fixture.THEME_1);
 
-            ReservationWebRequest request = new ReservationWebRequest(LocalDate.of(2024, 4, 9), 1L, 1L);
+            ReservationWebRequest request = new ReservationWebRequest(
+                    LocalDate.of(2024, 4, 9), time.getId(), theme.getId());
 
             ExtractableResponse<Response> response = RestAssured.given().log().all()
                     .cookie("token", token)
@@ -125,7 +127,7 @@ class ReservationControllerTest extends BaseControllerTest {
 
             SoftAssertions.assertSoftly(softly -> {
                 softly.assertThat(response.statusCode()).isEqualTo(HttpStatus.CREATED.value());
-                softly.assertThat(response.header("Location")).isEqualTo("/reservations/1");
+                softly.assertThat(response.header("Location")).isEqualTo("/reservations/" + reservationResponse.id());
 
                 softly.assertThat(reservationResponse.date()).isEqualTo(LocalDate.of(2024, 4, 9));
                 softly.assertThat(memberResponse).isEqualTo(MemberResponse.from(user));
@@ -138,13 +140,14 @@ class ReservationControllerTest extends BaseControllerTest {
         @DisplayName("지나간 날짜/시간이면 400을 반환한다.")
         void failWhenDateTimePassed() {
             Member user = memberRepository.save(Fixture.MEMBER_USER);
-            String token = tokenProvider.createToken(user.getId().toString());
+            String token = tokenProvider.createToken(TokenPayload.from(user));
 
             // given
-            reservationTimeRepository.save(new ReservationTime(LocalTime.of(11, 0)));
-            themeRepository.save(new Theme("테마 이름", "테마 설명", "https://example.com"));
+            ReservationTime time = reservationTimeRepository.save(new ReservationTime(LocalTime.of(11, 0)));
+            Theme theme = themeRepository.save(new Theme("테마 이름", "테마 설명", "https://example.com"));
 
-            ReservationWebRequest request = new ReservationWebRequest(LocalDate.of(2024, 4, 7), 1L, 1L);
+            ReservationWebRequest request = new ReservationWebRequest(
+                    LocalDate.of(2024, 4, 7), time.getId(), theme.getId());
 
             ExtractableResponse<Response> response = RestAssured.given().log().all()
                     .cookie("token", token)
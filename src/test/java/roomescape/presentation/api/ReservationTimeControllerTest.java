@@ -2,6 +2,7 @@ package roomescape.presentation.api;
 
 import static roomescape.fixture.Fixture.MEMBER_1;
 import static roomescape.fixture.Fixture.THEME_1;
+import static roomescape.fixture.Fixture.THEME_2;
 
 import io.restassured.RestAssured;
 import io.restassured.response.ExtractableResponse;
@@ -17,6 +18,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import roomescape.application.dto.response.AvailableReservationTimeResponse;
 import roomescape.application.dto.response.ReservationTimeResponse;
+import roomescape.application.dto.response.ThemeAvailabilityResponse;
 import roomescape.domain.member.Member;
 import roomescape.domain.member.MemberRepository;
 import roomescape.domain.reservation.Reservation;
@@ -45,7 +47,7 @@ class ReservationTimeControllerTest extends BaseControllerTest {
     @Test
     @DisplayName("이용한 가능한 시간들을 조회하고, 성공하면 200을 반환한다.")
     void getAllReservationTimes() {
-        reservationTimeRepository.save(new ReservationTime(LocalTime.of(10, 30)));
+        ReservationTime reservationTime = reservationTimeRepository.save(new ReservationTime(LocalTime.of(10, 30)));
 
         ExtractableResponse<Response> response = RestAssured.given().log().all()
                 .when().get("/times")
@@ -59,7 +61,7 @@ class ReservationTimeControllerTest extends BaseControllerTest {
             softly.assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
             softly.assertThat(reservationTimeResponses).hasSize(1);
             softly.assertThat(reservationTimeResponses)
-                    .containsExactly(new ReservationTimeResponse(1L, LocalTime.of(10, 30)));
+                    .containsExactly(ReservationTimeResponse.from(reservationTime));
         });
     }
 
@@ -101,4 +103,34 @@ class ReservationTimeControllerTest extends BaseControllerTest {
             softly.assertThat(responses.get(1).alreadyBooked()).isFalse();
         });
     }
+
+    @Test
+    @DisplayName("날짜의 테마별 예약 가능한 시간을 한 번에 조회하고 성공하면 200을 반환한다.")
+    void getAvailabilityGrid() {
+        LocalDateTime now = LocalDateTime.of(2024, 4, 8, 10, 0);
+        LocalDate date = LocalDate.of(2024, 4, 9);
+        Theme theme1 = themeRepository.save(THEME_1);
+        Theme theme2 = themeRepository.save(THEME_2);
+        ReservationTime time = reservationTimeRepository.save(new ReservationTime(LocalTime.of(10, 0)));
+        Member member = memberRepository.save(MEMBER_1);
+
+        reservationRepository.save(Reservation.create(now, new ReservationDetail(date, time, theme2), member));
+
+        ExtractableResponse<Response> extractResponse = RestAssured.given().log().all()
+                .param("date", date.toString())
+                .when().get("/times/available/grid")
+                .then().log().all()
+                .extract();
+
+        List<ThemeAvailabilityResponse> responses = extractResponse.jsonPath()
+                .getList(".", ThemeAvailabilityResponse.class);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(extractResponse.statusCode()).isEqualTo(HttpStatus.OK.value());
+            softly.assertThat(responses).extracting(ThemeAvailabilityResponse::themeId)
+                    .containsExactly(theme1.getId(), theme2.getId());
+            softly.assertThat(responses.get(0).times().get(0).alreadyBooked()).isFalse();
+            softly.assertThat(responses.get(1).times().get(0).alreadyBooked()).isTrue();
+        });
+    }
 }
@@ -40,7 +40,7 @@ class ThemeControllerTest extends BaseControllerTest {
     @Test
     @DisplayName("모든 테마를 조회하고 성공할 경우 200을 반환한다.")
     void getAllThemes() {
-        themeRepository.save(new Theme("테마 이름", "테마 설명", "https://example.com/image.jpg"));
+        Theme theme = themeRepository.save(new Theme("테마 이름", "테마 설명", "https://example.com/image.jpg"));
 
         ExtractableResponse<Response> response = RestAssured.given().log().all()
                 .when().get("/themes")
@@ -54,7 +54,7 @@ class ThemeControllerTest extends BaseControllerTest {
             softly.assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
             softly.assertThat(themeResponses).hasSize(1);
             softly.assertThat(themeResponses)
-                    .containsExactly(new ThemeResponse(1L, "테마 이름", "테마 설명", "https://example.com/image.jpg"));
+                    .containsExactly(new ThemeResponse(theme.getId(), "테마 이름", "테마 설명", "https://example.com/image.jpg"));
         });
     }
 
@@ -11,6 +11,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import roomescape.application.TokenPayload;
 import roomescape.application.dto.response.ReservationResponse;
 import roomescape.application.dto.response.ReservationTimeResponse;
 import roomescape.application.dto.response.ThemeResponse;
@@ -50,7 +51,7 @@ class WaitingControllerTest extends BaseControllerTest {
     @DisplayName("예약 대기를 추가하고 성공할 경우 201을 반환한다.")
     void addReservationWaiting() {
         Member user = memberRepository.save(Fixture.MEMBER_USER);
-        String token = tokenProvider.createToken(user.getId().toString());
+        String token = tokenProvider.createToken(TokenPayload.from(user));
 
         // given
         ReservationTime reservationTime = reservationTimeRepository.save(Fixture.RESERVATION_TIME_1);
@@ -88,7 +89,7 @@ class WaitingControllerTest extends BaseControllerTest {
     @DisplayName("예약 대기를 제거하고 성공할 경우 200을 반환한다.")
     void deleteReservationWaiting() {
         Member user = memberRepository.save(Fixture.MEMBER_USER);
-        String token = tokenProvider.createToken(user.getId().toString());
+        String token = tokenProvider.createToken(TokenPayload.from(user));
 
         // given
         ReservationTime reservationTime = reservationTimeRepository.save(new ReservationTime(LocalTime.of(11, 0)));
@@ -107,7 +108,7 @@ class WaitingControllerTest extends BaseControllerTest {
 
         SoftAssertions.assertSoftly(softly -> {
             softly.assertThat(response.statusCode()).isEqualTo(HttpStatus.NO_CONTENT.value());
-            softly.assertThat(waitingRepository.findById(1L)).isEmpty();
+            softly.assertThat(waitingRepository.findById(savedWaiting.getId())).isEmpty();
         });
     }
 }
@@ -0,0 +1,110 @@
+package roomescape.presentation.api.admin;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.restassured.RestAssured;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.TestPropertySource;
+import roomescape.application.TokenPayload;
+import roomescape.domain.member.Member;
+import roomescape.domain.member.MemberRepository;
+import roomescape.domain.member.Role;
+import roomescape.domain.reservation.Reservation;
+import roomescape.domain.reservation.ReservationRepository;
+import roomescape.domain.reservation.Waiting;
+import roomescape.domain.reservation.WaitingRepository;
+import roomescape.domain.reservation.detail.ReservationDetail;
+import roomescape.domain.reservation.detail.ReservationTime;
+import roomescape.domain.reservation.detail.ReservationTimeRepository;
+import roomescape.domain.reservation.detail.Theme;
+import roomescape.domain.reservation.detail.ThemeRepository;
+import roomescape.fixture.Fixture;
+import roomescape.presentation.BaseControllerTest;
+import roomescape.support.statistics.QueryCounter;
+
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class AdminListQueryCountTest extends BaseControllerTest {
+
+    private static final LocalDate DATE = LocalDate.of(2024, 4, 9);
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ReservationTimeRepository reservationTimeRepository;
+
+    @Autowired
+    private ThemeRepository themeRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private WaitingRepository waitingRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private QueryCounter queryCounter;
+    private String adminToken;
+
+    @BeforeEach
+    void setUp() {
+        queryCounter = new QueryCounter(entityManagerFactory);
+        Member admin = memberRepository.save(Fixture.MEMBER_ADMIN);
+        adminToken = tokenProvider.createToken(TokenPayload.from(admin));
+    }
+
+    @Test
+    @DisplayName("예약 목록을 조회할 때 예약 수와 관계없이 실행되는 쿼리 수가 같다.")
+    void getReservationsByConditions() {
+        seed(0, 1);
+        long singleRowQueryCount = countQueries("/admin/reservations");
+
+        seed(1, 5);
+        long multiRowQueryCount = countQueries("/admin/reservations");
+
+        assertThat(multiRowQueryCount).isEqualTo(singleRowQueryCount);
+    }
+
+    @Test
+    @DisplayName("예약 대기 목록을 조회할 때 예약 대기 수와 관계없이 실행되는 쿼리 수가 같다.")
+    void getWaitings() {
+        seed(0, 1);
+        long singleRowQueryCount = countQueries("/admin/waitings");
+
+        seed(1, 5);
+        long multiRowQueryCount = countQueries("/admin/waitings");
+
+        assertThat(multiRowQueryCount).isEqualTo(singleRowQueryCount);
+    }
+
+    private void seed(int from, int to) {
+        IntStream.range(from, to).forEach(i -> {
+            ReservationTime time = reservationTimeRepository.save(new ReservationTime(LocalTime.of(10 + i, 0)));
+            Theme theme = themeRepository.save(new Theme("테마" + i, "테마 설명", "https://example.com"));
+            Member owner = memberRepository.save(new Member("owner" + i + "@gmail.com", "password", "owner", Role.USER));
+            Member waiter = memberRepository.save(new Member("waiter" + i + "@gmail.com", "password", "waiter", Role.USER));
+            ReservationDetail detail = new ReservationDetail(DATE, time, theme);
+
+            reservationRepository.save(new Reservation(detail, owner));
+            waitingRepository.save(new Waiting(detail, waiter));
+        });
+    }
+
+    private long countQueries(String path) {
+        return queryCounter.count(() -> RestAssured.given().log().all()
+                .cookie("token", adminToken)
+                .when().get(path)
+                .then().log().all()
+                .statusCode(HttpStatus.OK.value()));
+    }
+}
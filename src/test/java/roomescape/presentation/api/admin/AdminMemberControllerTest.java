@@ -9,6 +9,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import roomescape.application.TokenPayload;
 import roomescape.application.dto.response.MemberResponse;
 import roomescape.domain.member.Member;
 import roomescape.domain.member.MemberRepository;
@@ -24,7 +25,7 @@ class AdminMemberControllerTest extends BaseControllerTest {
     @DisplayName("모든 회원을 조회할 경우 성공하면 200을 반환한다.")
     void getAllMembers() {
         Member admin = memberRepository.save(Fixture.MEMBER_ADMIN);
-        String token = tokenProvider.createToken(admin.getId().toString());
+        String token = tokenProvider.createToken(TokenPayload.from(admin));
 
         ExtractableResponse<Response> response = RestAssured.given().log().all()
                 .cookie("token", token)
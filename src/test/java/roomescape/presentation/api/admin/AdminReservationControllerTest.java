@@ -15,7 +15,10 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import roomescape.application.TokenPayload;
 import roomescape.application.dto.response.MemberResponse;
+import roomescape.application.dto.response.ReservationBatchFailureResponse;
+import roomescape.application.dto.response.ReservationBatchResponse;
 import roomescape.application.dto.response.ReservationResponse;
 import roomescape.application.dto.response.ReservationTimeResponse;
 import roomescape.application.dto.response.ThemeResponse;
@@ -33,6 +36,7 @@ import roomescape.domain.reservation.detail.Theme;
 import roomescape.domain.reservation.detail.ThemeRepository;
 import roomescape.fixture.Fixture;
 import roomescape.presentation.BaseControllerTest;
+import roomescape.presentation.dto.request.AdminReservationBatchWebRequest;
 import roomescape.presentation.dto.request.AdminReservationWebRequest;
 
 class AdminReservationControllerTest extends BaseControllerTest {
@@ -56,7 +60,7 @@ class AdminReservationControllerTest extends BaseControllerTest {
     @DisplayName("조건에 맞는 예약들(예약 대기 제외)을 조회하고 성공할 경우 200을 반환한다.")
     void getReservationsByConditions() {
         Member admin = memberRepository.save(Fixture.MEMBER_ADMIN);
-        String token = tokenProvider.createToken(admin.getId().toString());
+        String token = tokenProvider.createToken(TokenPayload.from(admin));
 
         LocalDate date = LocalDate.of(2024, 4, 9);
         ReservationTime reservationTime = reservationTimeRepository.save(new ReservationTime(LocalTime.of(11, 0)));
@@ -92,6 +96,22 @@ class AdminReservationControllerTest extends BaseControllerTest {
         });
     }
 
+    @Test
+    @DisplayName("조회할 예약 개수가 최대 개수를 넘으면 400을 반환한다.")
+    void getReservationsByConditionsWhenSizeExceeded() {
+        Member admin = memberRepository.save(Fixture.MEMBER_ADMIN);
+        String token = tokenProvider.createToken(TokenPayload.from(admin));
+
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+                .cookie("token", token)
+                .param("size", 501)
+                .when().get("/admin/reservations")
+                .then().log().all()
+                .extract();
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
     @Nested
     @DisplayName("예약을 생성하는 경우")
     class AddReservation {
@@ -100,7 +120,7 @@ class AdminReservationControllerTest extends BaseControllerTest {
         @DisplayName("성공할 경우 201을 반환한다.")
         void addAdminReservation() {
             Member admin = memberRepository.save(Fixture.MEMBER_ADMIN);
-            String token = tokenProvider.createToken(admin.getId().toString());
+            String token = tokenProvider.createToken(TokenPayload.from(admin));
 
             ReservationTime reservationTime = reservationTimeRepository.save(new ReservationTime(LocalTime.of(11, 0)));
             Theme theme = themeRepository.save(new Theme("테마 이름", "테마 설명", "https://example.com"));
@@ -129,7 +149,7 @@ class AdminReservationControllerTest extends BaseControllerTest {
                 softly.assertThat(response.statusCode()).isEqualTo(HttpStatus.CREATED.value());
                 softly.assertThat(reservationResponse.date()).isEqualTo(LocalDate.of(2024, 6, 22));
                 softly.assertThat(memberResponse)
-                        .isEqualTo(new MemberResponse(1L, "admin@gmail.com", "어드민", Role.ADMIN));
+                        .isEqualTo(new MemberResponse(admin.getId(), "admin@gmail.com", "어드민", Role.ADMIN));
                 softly.assertThat(timeResponse).isEqualTo(ReservationTimeResponse.from(reservationTime));
                 softly.assertThat(themeResponse).isEqualTo(ThemeResponse.from(theme));
             });
@@ -139,7 +159,7 @@ class AdminReservationControllerTest extends BaseControllerTest {
         @DisplayName("어드민 권한이 아닐 경우 403을 반환한다.")
         void addAdminReservationFailWhenNotAdmin() {
             Member user = memberRepository.save(Fixture.MEMBER_USER);
-            String token = tokenProvider.createToken(user.getId().toString());
+            String token = tokenProvider.createToken(TokenPayload.from(user));
 
             AdminReservationWebRequest request = new AdminReservationWebRequest(
                     LocalDate.of(2024, 6, 22),
@@ -160,11 +180,66 @@ class AdminReservationControllerTest extends BaseControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("예약을 일괄 생성하는 경우")
+    class AddReservations {
+
+        @Test
+        @DisplayName("성공한 예약과 실패한 예약을 구분하여 200을 반환한다.")
+        void addAdminReservations() {
+            Member admin = memberRepository.save(Fixture.MEMBER_ADMIN);
+            String token = tokenProvider.createToken(TokenPayload.from(admin));
+
+            ReservationTime reservationTime = reservationTimeRepository.save(new ReservationTime(LocalTime.of(11, 0)));
+            Theme theme = themeRepository.save(new Theme("테마 이름", "테마 설명", "https://example.com"));
+            LocalDate date = LocalDate.of(2024, 6, 22);
+
+            AdminReservationBatchWebRequest request = new AdminReservationBatchWebRequest(List.of(
+                    new AdminReservationWebRequest(date, theme.getId(), reservationTime.getId(), admin.getId()),
+                    new AdminReservationWebRequest(date, theme.getId(), reservationTime.getId(), admin.getId())
+            ));
+
+            ExtractableResponse<Response> response = RestAssured.given().log().all()
+                    .cookie("token", token)
+                    .contentType(ContentType.JSON)
+                    .body(request)
+                    .when().post("/admin/reservations/batch")
+                    .then().log().all()
+                    .extract();
+
+            ReservationBatchResponse batchResponse = response.as(ReservationBatchResponse.class);
+
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+                softly.assertThat(batchResponse.reservations()).hasSize(1);
+                softly.assertThat(batchResponse.failures())
+                        .containsExactly(new ReservationBatchFailureResponse(1, "이미 예약이 존재합니다."));
+            });
+        }
+
+        @Test
+        @DisplayName("예약 목록이 비어 있으면 400을 반환한다.")
+        void addAdminReservationsFailWhenEmpty() {
+            Member admin = memberRepository.save(Fixture.MEMBER_ADMIN);
+            String token = tokenProvider.createToken(TokenPayload.from(admin));
+
+            ExtractableResponse<Response> response = RestAssured.given().log().all()
+                    .cookie("token", token)
+                    .contentType(ContentType.JSON)
+                    .body(new AdminReservationBatchWebRequest(List.of()))
+                    .when().post("/admin/reservations/batch")
+                    .then().log().all()
+                    .extract();
+
+            assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        }
+    }
+
     @Test
     @DisplayName("예약을 삭제하고 성공할 경우 204를 반환한다.")
     void deleteReservationById() {
         Member admin = memberRepository.save(Fixture.MEMBER_ADMIN);
-        String token = tokenProvider.createToken(admin.getId().toString());
+        String token = tokenProvider.createToken(TokenPayload.from(admin));
 
         LocalDate date = LocalDate.of(2024, 4, 9);
         ReservationTime reservationTime = reservationTimeRepository.save(new ReservationTime(LocalTime.of(11, 0)));
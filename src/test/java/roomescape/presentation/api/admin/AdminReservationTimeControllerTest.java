@@ -14,6 +14,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import roomescape.application.TokenPayload;
 import roomescape.application.dto.request.ReservationTimeRequest;
 import roomescape.application.dto.response.ReservationTimeResponse;
 import roomescape.domain.member.Member;
@@ -51,7 +52,7 @@ class AdminReservationTimeControllerTest extends BaseControllerTest {
         @DisplayName("성공할 경우 201을 반환한다.")
         void success() {
             Member admin = memberRepository.save(Fixture.MEMBER_ADMIN);
-            String token = tokenProvider.createToken(admin.getId().toString());
+            String token = tokenProvider.createToken(TokenPayload.from(admin));
 
             ReservationTimeRequest request = new ReservationTimeRequest(LocalTime.of(10, 30));
 
@@ -67,9 +68,8 @@ class AdminReservationTimeControllerTest extends BaseControllerTest {
 
             SoftAssertions.assertSoftly(softly -> {
                 softly.assertThat(response.statusCode()).isEqualTo(HttpStatus.CREATED.value());
-                softly.assertThat(response.header("Location")).isEqualTo("/times/1");
-                softly.assertThat(reservationTimeResponse)
-                        .isEqualTo(new ReservationTimeResponse(1L, LocalTime.of(10, 30)));
+                softly.assertThat(response.header("Location")).isEqualTo("/times/" + reservationTimeResponse.id());
+                softly.assertThat(reservationTimeResponse.startAt()).isEqualTo(LocalTime.of(10, 30));
             });
         }
 
@@ -77,7 +77,7 @@ class AdminReservationTimeControllerTest extends BaseControllerTest {
         @DisplayName("이미 예약 시간이 존재하면 400을 반환한다.")
         void addReservationTimeFailWhenDuplicatedTime() {
             Member admin = memberRepository.save(Fixture.MEMBER_ADMIN);
-            String token = tokenProvider.createToken(admin.getId().toString());
+            String token = tokenProvider.createToken(TokenPayload.from(admin));
 
             reservationTimeRepository.save(new ReservationTime(LocalTime.of(10, 30)));
 
@@ -108,13 +108,13 @@ class AdminReservationTimeControllerTest extends BaseControllerTest {
         @DisplayName("성공할 경우 204를 반환한다.")
         void success() {
             Member admin = memberRepository.save(Fixture.MEMBER_ADMIN);
-            String token = tokenProvider.createToken(admin.getId().toString());
+            String token = tokenProvider.createToken(TokenPayload.from(admin));
 
-            reservationTimeRepository.save(new ReservationTime(LocalTime.of(10, 30)));
+            ReservationTime reservationTime = reservationTimeRepository.save(new ReservationTime(LocalTime.of(10, 30)));
 
             ExtractableResponse<Response> response = RestAssured.given().log().all()
                     .cookie("token", token)
-                    .when().delete("/admin/times/1")
+                    .when().delete("/admin/times/" + reservationTime.getId())
                     .then().log().all()
                     .extract();
 
@@ -125,7 +125,7 @@ class AdminReservationTimeControllerTest extends BaseControllerTest {
         @DisplayName("존재하지 않는 예약 시간을 삭제하면 404를 반환한다.")
         void deleteReservationTimeByIdFailWhenNotFoundId() {
             Member admin = memberRepository.save(Fixture.MEMBER_ADMIN);
-            String token = tokenProvider.createToken(admin.getId().toString());
+            String token = tokenProvider.createToken(TokenPayload.from(admin));
 
             ExtractableResponse<Response> response = RestAssured.given().log().all()
                     .cookie("token", token)
@@ -144,7 +144,7 @@ class AdminReservationTimeControllerTest extends BaseControllerTest {
         @DisplayName("이미 사용 중인 예약 시간을 삭제하면 400을 반환한다.")
         void deleteReservationTimeByIdFailWhenUsedTime() {
             Member admin = memberRepository.save(Fixture.MEMBER_ADMIN);
-            String token = tokenProvider.createToken(admin.getId().toString());
+            String token = tokenProvider.createToken(TokenPayload.from(admin));
 
             Member member = memberRepository.save(new Member("member@gmail.com", "password", "member", Role.USER));
             ReservationTime reservationTime = reservationTimeRepository.save(new ReservationTime(LocalTime.of(10, 30)));
@@ -155,14 +155,14 @@ class AdminReservationTimeControllerTest extends BaseControllerTest {
 
             ExtractableResponse<Response> response = RestAssured.given().log().all()
                     .cookie("token", token)
-                    .when().delete("/admin/times/1")
+                    .when().delete("/admin/times/" + reservationTime.getId())
                     .then().log().all()
                     .extract();
 
             SoftAssertions.assertSoftly(softly -> {
                 softly.assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
                 softly.assertThat(response.body().asString())
-                        .contains(String.format("해당 예약 시간을 사용하는 예약이 존재합니다. (예약 시간 id: %d)", 1));
+                        .contains(String.format("해당 예약 시간을 사용하는 예약이 존재합니다. (예약 시간 id: %d)", reservationTime.getId()));
             });
         }
     }
@@ -12,6 +12,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import roomescape.application.TokenPayload;
 import roomescape.application.dto.request.ThemeRequest;
 import roomescape.application.dto.response.ThemeResponse;
 import roomescape.domain.member.Member;
@@ -49,7 +50,7 @@ class AdminThemeControllerTest extends BaseControllerTest {
         @DisplayName("성공하면 201을 반환한다.")
         void success() {
             Member admin = memberRepository.save(Fixture.MEMBER_ADMIN);
-            String token = tokenProvider.createToken(admin.getId().toString());
+            String token = tokenProvider.createToken(TokenPayload.from(admin));
 
             ThemeRequest request = new ThemeRequest("테마 이름", "테마 설명", "https://example.com/image.jpg");
 
@@ -65,9 +66,9 @@ class AdminThemeControllerTest extends BaseControllerTest {
 
             SoftAssertions.assertSoftly(softly -> {
                 softly.assertThat(response.statusCode()).isEqualTo(HttpStatus.CREATED.value());
-                softly.assertThat(response.header("Location")).isEqualTo("/themes/1");
-                softly.assertThat(themeResponse)
-                        .isEqualTo(new ThemeResponse(1L, "테마 이름", "테마 설명", "https://example.com/image.jpg"));
+                softly.assertThat(response.header("Location")).isEqualTo("/themes/" + themeResponse.id());
+                softly.assertThat(themeResponse).isEqualTo(new ThemeResponse(
+                        themeResponse.id(), "테마 이름", "테마 설명", "https://example.com/image.jpg"));
             });
         }
 
@@ -75,7 +76,7 @@ class AdminThemeControllerTest extends BaseControllerTest {
         @DisplayName("이미 존재하는 테마 이름이면 400을 반환한다.")
         void addThemeFailWhenNameAlreadyExists() {
             Member admin = memberRepository.save(Fixture.MEMBER_ADMIN);
-            String token = tokenProvider.createToken(admin.getId().toString());
+            String token = tokenProvider.createToken(TokenPayload.from(admin));
 
             themeRepository.save(new Theme("테마 이름", "테마 설명", "https://example.com/image.jpg"));
 
@@ -104,7 +105,7 @@ class AdminThemeControllerTest extends BaseControllerTest {
         @DisplayName("성공하면 204를 반환한다.")
         void success() {
             Member admin = memberRepository.save(Fixture.MEMBER_ADMIN);
-            String token = tokenProvider.createToken(admin.getId().toString());
+            String token = tokenProvider.createToken(TokenPayload.from(admin));
 
             Theme theme = themeRepository.save(new Theme("테마 이름", "테마 설명", "https://example.com"));
 
@@ -124,7 +125,7 @@ class AdminThemeControllerTest extends BaseControllerTest {
         @DisplayName("존재하지 않는 테마를 삭제하면 404를 반환한다.")
         void deleteThemeByIdFailWhenNotFoundId() {
             Member admin = memberRepository.save(Fixture.MEMBER_ADMIN);
-            String token = tokenProvider.createToken(admin.getId().toString());
+            String token = tokenProvider.createToken(TokenPayload.from(admin));
 
             ExtractableResponse<Response> response = RestAssured.given().log().all()
                     .cookie("token", token)
@@ -142,7 +143,7 @@ class AdminThemeControllerTest extends BaseControllerTest {
         @DisplayName("이미 사용 중인 테마을 삭제하면 400을 반환한다.")
         void deleteThemeByIdFailWhenUsedTheme() {
             Member admin = memberRepository.save(Fixture.MEMBER_ADMIN);
-            String token = tokenProvider.createToken(admin.getId().toString());
+            String token = tokenProvider.createToken(TokenPayload.from(admin));
 
             Member member = memberRepository.save(new Member("member@gmail.com", "password", "member", Role.USER));
             ReservationTime time = reservationTimeRepository.save(new ReservationTime(LocalTime.of(10, 30)));
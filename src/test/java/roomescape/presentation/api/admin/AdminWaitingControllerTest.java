@@ -1,5 +1,7 @@
 package roomescape.presentation.api.admin;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 import io.restassured.RestAssured;
 import io.restassured.http.ContentType;
 import io.restassured.response.ExtractableResponse;
@@ -11,6 +13,8 @@ import org.assertj.core.api.SoftAssertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import roomescape.application.TokenPayload;
 import roomescape.application.dto.response.MemberResponse;
 import roomescape.application.dto.response.ReservationResponse;
 import roomescape.application.dto.response.ReservationTimeResponse;
@@ -50,7 +54,7 @@ class AdminWaitingControllerTest extends BaseControllerTest {
     @DisplayName("예약 대기 목록을 조회하고 성공하면 200을 반환한다.")
     void getReservationWaitings() {
         Member admin = memberRepository.save(Fixture.MEMBER_ADMIN);
-        String token = tokenProvider.createToken(admin.getId().toString());
+        String token = tokenProvider.createToken(TokenPayload.from(admin));
 
         ReservationTime reservationTime = reservationTimeRepository.save(new ReservationTime(LocalTime.of(11, 0)));
         Theme theme = themeRepository.save(new Theme("테마 이름", "테마 설명", "https://example.com"));
@@ -80,11 +84,27 @@ class AdminWaitingControllerTest extends BaseControllerTest {
         });
     }
 
+    @Test
+    @DisplayName("조회할 예약 대기 개수가 최대 개수를 넘으면 400을 반환한다.")
+    void getReservationWaitingsWhenSizeExceeded() {
+        Member admin = memberRepository.save(Fixture.MEMBER_ADMIN);
+        String token = tokenProvider.createToken(TokenPayload.from(admin));
+
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+                .cookie("token", token)
+                .param("size", 501)
+                .when().get("/admin/waitings")
+                .then().log().all()
+                .extract();
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
     @Test
     @DisplayName("예약 대기에서 예약으로 변경을 승인하고 성공하면 200을 반환한다.")
     void approveReservationWaiting() {
         Member admin = memberRepository.save(Fixture.MEMBER_ADMIN);
-        String token = tokenProvider.createToken(admin.getId().toString());
+        String token = tokenProvider.createToken(TokenPayload.from(admin));
 
         ReservationTime reservationTime = reservationTimeRepository.save(new ReservationTime(LocalTime.of(11, 0)));
         Theme theme = themeRepository.save(new Theme("테마 이름", "테마 설명", "https://example.com"));
@@ -113,7 +133,7 @@ class AdminWaitingControllerTest extends BaseControllerTest {
     @DisplayName("예약 대기에서 예약으로 변경을 거부하고 성공하면 200을 반환한다.")
     void rejectReservationWaiting() {
         Member admin = memberRepository.save(Fixture.MEMBER_ADMIN);
-        String token = tokenProvider.createToken(admin.getId().toString());
+        String token = tokenProvider.createToken(TokenPayload.from(admin));
 
         ReservationTime reservationTime = reservationTimeRepository.save(new ReservationTime(LocalTime.of(11, 0)));
         Theme theme = themeRepository.save(new Theme("테마 이름", "테마 설명", "https://example.com"));
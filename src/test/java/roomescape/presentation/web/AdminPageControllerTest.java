@@ -12,6 +12,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import roomescape.application.TokenPayload;
 import roomescape.domain.member.Member;
 import roomescape.domain.member.MemberRepository;
 import roomescape.exception.ErrorResponse;
@@ -34,7 +35,7 @@ class AdminPageControllerTest extends BaseControllerTest {
     @DisplayName("어드민 페이지를 조회한다.")
     void pageTest(String path) {
         Member admin = memberRepository.save(Fixture.MEMBER_ADMIN);
-        String token = tokenProvider.createToken(admin.getId().toString());
+        String token = tokenProvider.createToken(TokenPayload.from(admin));
 
         ExtractableResponse<Response> response = RestAssured.given().log().all()
                 .cookie("token", token)
@@ -65,7 +66,7 @@ class AdminPageControllerTest extends BaseControllerTest {
     @DisplayName("로그인을 했지만 어드민이 아니면 403 에러가 발생한다.")
     void notAdmin() {
         Member user = memberRepository.save(Fixture.MEMBER_USER);
-        String token = tokenProvider.createToken(user.getId().toString());
+        String token = tokenProvider.createToken(TokenPayload.from(user));
 
         ExtractableResponse<Response> response = RestAssured.given().log().all()
                 .cookie("token", token)
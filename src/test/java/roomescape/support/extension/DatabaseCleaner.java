@@ -3,17 +3,30 @@ package roomescape.support.extension;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import java.util.List;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
 import org.springframework.transaction.annotation.Transactional;
+import roomescape.infra.InMemorySlotOccupancyIndex;
 
 public class DatabaseCleaner {
 
     @PersistenceContext
     private EntityManager em;
 
+    @Autowired
+    private InMemorySlotOccupancyIndex slotOccupancyIndex;
+
+    @Autowired
+    private CacheManager cacheManager;
+
     @Transactional
     public void clear() {
         em.clear();
         truncate();
+        em.getEntityManagerFactory().unwrap(SessionFactory.class).getCache().evictAllRegions();
+        slotOccupancyIndex.clear();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
     }
 
     private void truncate() {
@@ -28,6 +41,7 @@ public class DatabaseCleaner {
                 SELECT Concat('TRUNCATE TABLE ', TABLE_NAME, ' RESTART IDENTITY', ';') AS q
                 FROM INFORMATION_SCHEMA.TABLES
                 WHERE TABLE_SCHEMA = 'PUBLIC'
+                AND TABLE_NAME <> 'flyway_schema_history'
                 """;
 
         return em.createNativeQuery(sql).getResultList();
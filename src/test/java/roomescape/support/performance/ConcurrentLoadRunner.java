@@ -0,0 +1,78 @@
+package roomescape.support.performance;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntConsumer;
+import roomescape.exception.ApplicationException;
+
+public class ConcurrentLoadRunner {
+
+    private static final long TIMEOUT_SECONDS = 60;
+
+    private final int threadCount;
+
+    public ConcurrentLoadRunner(int threadCount) {
+        this.threadCount = threadCount;
+    }
+
+    public LoadResult run(String name, int requestCount, IntConsumer request) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(requestCount);
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger rejectedCount = new AtomicInteger();
+        AtomicReference<RuntimeException> firstError = new AtomicReference<>();
+        long[] latencyNanos = new long[requestCount];
+
+        for (int i = 0; i < requestCount; i++) {
+            int index = i;
+            executorService.submit(() -> {
+                try {
+                    startLatch.await();
+                    long startedAt = System.nanoTime();
+                    try {
+                        request.accept(index);
+                        successCount.incrementAndGet();
+                    } catch (ApplicationException e) {
+                        rejectedCount.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        firstError.compareAndSet(null, e);
+                    } finally {
+                        latencyNanos[index] = System.nanoTime() - startedAt;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+
+        long startedAt = System.nanoTime();
+        startLatch.countDown();
+        boolean completed = doneLatch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+        executorService.shutdownNow();
+
+        if (!completed) {
+            throw new IllegalStateException(String.format("[%s] %d초 안에 모든 요청이 끝나지 않았습니다.", name, TIMEOUT_SECONDS));
+        }
+
+        if (firstError.get() != null) {
+            throw new IllegalStateException(String.format("[%s] 예상하지 못한 예외가 발생했습니다.", name), firstError.get());
+        }
+
+        return new LoadResult(
+                name,
+                successCount.get(),
+                rejectedCount.get(),
+                elapsed,
+                latencyNanos
+        );
+    }
+}
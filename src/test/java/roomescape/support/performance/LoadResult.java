@@ -0,0 +1,45 @@
+package roomescape.support.performance;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+public record LoadResult(
+        String name,
+        int successCount,
+        int rejectedCount,
+        Duration elapsed,
+        long[] latencyNanos
+) {
+
+    public double throughputPerSecond() {
+        double seconds = elapsed.toNanos() / 1_000_000_000.0;
+
+        return latencyNanos.length / seconds;
+    }
+
+    public Duration percentile(double percentile) {
+        if (latencyNanos.length == 0) {
+            return Duration.ZERO;
+        }
+
+        long[] sorted = latencyNanos.clone();
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+
+        return Duration.ofNanos(sorted[Math.max(index, 0)]);
+    }
+
+    public String report() {
+        return String.format(
+                "[%s] requests=%d, success=%d, rejected=%d, elapsed=%dms, throughput=%.1f/s, p50=%.2fms, p99=%.2fms",
+                name,
+                latencyNanos.length,
+                successCount,
+                rejectedCount,
+                elapsed.toMillis(),
+                throughputPerSecond(),
+                percentile(50).toNanos() / 1_000_000.0,
+                percentile(99).toNanos() / 1_000_000.0
+        );
+    }
+}
@@ -0,0 +1,25 @@
+package roomescape.support.statistics;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+public class QueryCounter {
+
+    private final Statistics statistics;
+
+    public QueryCounter(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        if (!statistics.isStatisticsEnabled()) {
+            throw new IllegalStateException("hibernate.generate_statistics 설정이 필요합니다.");
+        }
+    }
+
+    public long count(Runnable runnable) {
+        statistics.clear();
+        runnable.run();
+
+        return statistics.getPrepareStatementCount();
+    }
+}
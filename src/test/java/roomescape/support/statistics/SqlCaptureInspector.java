@@ -0,0 +1,23 @@
+package roomescape.support.statistics;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+public class SqlCaptureInspector implements StatementInspector {
+
+    private static final List<String> CAPTURED = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        CAPTURED.add(sql);
+        return sql;
+    }
+
+    public static List<String> capture(Runnable runnable) {
+        CAPTURED.clear();
+        runnable.run();
+
+        return List.copyOf(CAPTURED);
+    }
+}